@@ -0,0 +1,105 @@
+package com.masonpohler.api.projects;
+
+import com.masonpohler.api.source.Source;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.security.servlet.SecurityAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Runs against in-memory H2, so it shows the statement and transaction overhead but not MySQL network round trips.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ProjectBatchInsertBenchmark {
+
+    @Param({"100"})
+    public int projectCount;
+
+    @Param({"2"})
+    public int sourcesPerProject;
+
+    private ConfigurableApplicationContext context;
+    private ProjectRepository repository;
+    private JdbcTemplate jdbcTemplate;
+
+    @Setup(Level.Trial)
+    public void start_context() {
+        context = new SpringApplicationBuilder(BenchmarkConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run(
+                        "--spring.main.banner-mode=off",
+                        "--logging.level.root=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop"
+                );
+        repository = context.getBean(ProjectRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+    }
+
+    @TearDown(Level.Iteration)
+    public void delete_projects() {
+        jdbcTemplate.update("DELETE FROM project_source");
+        jdbcTemplate.update("DELETE FROM project");
+        jdbcTemplate.update("DELETE FROM source");
+    }
+
+    @TearDown(Level.Trial)
+    public void stop_context() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<Project> saveAllInOneTransaction() {
+        return repository.saveAll(createProjects());
+    }
+
+    @Benchmark
+    public List<Project> saveEachInOwnTransaction() {
+        List<Project> projects = createProjects();
+        List<Project> savedProjects = new ArrayList<>(projects.size());
+        for (Project project : projects) {
+            savedProjects.add(repository.save(project));
+        }
+        return savedProjects;
+    }
+
+    private List<Project> createProjects() {
+        List<Project> projects = new ArrayList<>(projectCount);
+        for (int i = 0; i < projectCount; i++) {
+            Project project = new Project();
+            project.setName("Project " + i);
+            for (int j = 0; j < sourcesPerProject; j++) {
+                Source source = new Source();
+                source.setName("Source " + j);
+                project.getSources().add(source);
+            }
+            projects.add(project);
+        }
+        return projects;
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration(exclude = SecurityAutoConfiguration.class)
+    @EntityScan(basePackages = "com.masonpohler.api")
+    @EnableJpaRepositories(basePackageClasses = ProjectRepository.class)
+    static class BenchmarkConfiguration {
+    }
+}
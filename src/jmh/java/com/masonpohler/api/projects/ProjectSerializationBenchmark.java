@@ -0,0 +1,59 @@
+package com.masonpohler.api.projects;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masonpohler.api.source.Source;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ProjectSerializationBenchmark {
+
+    @Param({"1", "100", "1000"})
+    public int projectCount;
+
+    @Param({"0", "5", "20"})
+    public int sourcesPerProject;
+
+    private ObjectMapper objectMapper;
+    private List<Project> projects;
+
+    @Setup
+    public void set_up() {
+        objectMapper = new ObjectMapper().registerModule(new LazyAttributeModule());
+        projects = new ArrayList<>(projectCount);
+        for (int i = 0; i < projectCount; i++) {
+            Project project = new Project();
+            project.setId(i);
+            project.setName("Project " + i);
+            project.setDescription("A short description of project " + i + ".");
+            project.setDetailedDescription("A much longer detailed description of project " + i + ". ");
+            project.setPreviewURL("https://masonpohler.com/previews/" + i + ".png");
+            project.setLiveURL("https://masonpohler.com/projects/" + i);
+            project.setLastModified(new Date());
+            for (int j = 0; j < sourcesPerProject; j++) {
+                Source source = new Source();
+                source.setId(i * 1000L + j);
+                source.setName("Source " + j);
+                source.setUrl("https://github.com/mpohler1/project-" + i + "-" + j);
+                source.setLastModified(new Date());
+                project.getSources().add(source);
+            }
+            projects.add(project);
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeProjects() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(projects);
+    }
+}
@@ -0,0 +1,101 @@
+package com.masonpohler.api.security;
+
+import com.masonpohler.api.environment.ConfigurationService;
+import com.masonpohler.api.environment.EnvironmentService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class JWTServiceBenchmark {
+    private static final long HOUR_IN_MILLISECONDS = 3600000L;
+
+    private JWTService cachingService;
+    private JWTService uncachedService;
+    private JWTService otherKeyService;
+
+    private String validToken;
+    private String expiredToken;
+    private String badSignatureToken;
+
+    @Setup
+    public void set_up() {
+        cachingService = createService("benchmark-secret", new ValidatedTokenCache(10000));
+        uncachedService = createService("benchmark-secret", new ValidatedTokenCache(1) {
+            @Override
+            AuthenticatedUser get(String token) {
+                return null;
+            }
+
+            @Override
+            void put(String token, AuthenticatedUser user, Date expiration) {
+            }
+        });
+        otherKeyService = createService("other-secret", new ValidatedTokenCache(1));
+
+        long now = System.currentTimeMillis();
+        validToken = cachingService.createToken("root", Authorities.ADMIN.toString(), new Date(now), new Date(now + HOUR_IN_MILLISECONDS));
+        expiredToken = cachingService.createToken("root", Authorities.ADMIN.toString(), new Date(now - 2 * HOUR_IN_MILLISECONDS), new Date(now - HOUR_IN_MILLISECONDS));
+        badSignatureToken = otherKeyService.createToken("root", Authorities.ADMIN.toString(), new Date(now), new Date(now + HOUR_IN_MILLISECONDS));
+    }
+
+    @Benchmark
+    public String createToken() {
+        long now = System.currentTimeMillis();
+        return cachingService.createToken("root", Authorities.ADMIN.toString(), new Date(now), new Date(now + HOUR_IN_MILLISECONDS));
+    }
+
+    @Benchmark
+    public AuthenticatedUser validateValidTokenCached() {
+        return cachingService.validateToken(validToken);
+    }
+
+    @Benchmark
+    public AuthenticatedUser validateValidTokenUncached() {
+        return uncachedService.validateToken(validToken);
+    }
+
+    @Benchmark
+    public Object validateExpiredToken() {
+        try {
+            return cachingService.validateToken(expiredToken);
+        } catch (ExpiredTokenException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object validateBadSignatureToken() {
+        try {
+            return cachingService.validateToken(badSignatureToken);
+        } catch (TokenSignatureException e) {
+            return e;
+        }
+    }
+
+    static JWTService createService(String apiSecret, ValidatedTokenCache validatedTokenCache) {
+        Map<String, String> environment = new HashMap<>();
+        environment.put("API_SECRET", apiSecret);
+        environment.put("APPLICATION_URL", "https://masonpohler.com");
+
+        ConfigurationService configurationService = new ConfigurationService();
+        ReflectionTestUtils.setField(configurationService, "environmentService", (EnvironmentService) environment::get);
+        ReflectionTestUtils.invokeMethod(configurationService, "load");
+
+        JWTService jwtService = new JWTService();
+        ReflectionTestUtils.setField(jwtService, "configurationService", configurationService);
+        ReflectionTestUtils.setField(jwtService, "validatedTokenCache", validatedTokenCache);
+        ReflectionTestUtils.setField(jwtService, "meterRegistry", new SimpleMeterRegistry());
+        return jwtService;
+    }
+}
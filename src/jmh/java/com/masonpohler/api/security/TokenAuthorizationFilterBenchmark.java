@@ -0,0 +1,72 @@
+package com.masonpohler.api.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TokenAuthorizationFilterBenchmark {
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    // validatePublicRoutes=true is the behaviour before public routes skipped token validation.
+    @Param({"false", "true"})
+    public boolean validatePublicRoutes;
+
+    private TokenAuthorizationFilter filter;
+    private MockHttpServletRequest protectedRequest;
+    private MockHttpServletRequest publicRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void set_up() {
+        JWTService jwtService = JWTServiceBenchmark.createService("benchmark-secret", new ValidatedTokenCache(10000));
+        long now = System.currentTimeMillis();
+        String token = jwtService.createToken("root", Authorities.ADMIN.toString(), new Date(now), new Date(now + 3600000L));
+
+        filter = new TokenAuthorizationFilter();
+        ReflectionTestUtils.setField(filter, "tokenService", jwtService);
+        ReflectionTestUtils.setField(filter, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "validatePublicRoutes", validatePublicRoutes);
+
+        protectedRequest = createRequest("DELETE", "/project/1/delete", token);
+        publicRequest = createRequest("GET", "/projects", token);
+        response = new MockHttpServletResponse();
+    }
+
+    @TearDown
+    public void tear_down() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public void filterProtectedRequest() throws ServletException, IOException {
+        filter.doFilter(protectedRequest, response, NO_OP_CHAIN);
+    }
+
+    @Benchmark
+    public void filterPublicRequest() throws ServletException, IOException {
+        filter.doFilter(publicRequest, response, NO_OP_CHAIN);
+    }
+
+    private MockHttpServletRequest createRequest(String method, String path, String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        request.addHeader("Authorization", token);
+        return request;
+    }
+}
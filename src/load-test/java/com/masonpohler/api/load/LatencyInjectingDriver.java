@@ -0,0 +1,133 @@
+package com.masonpohler.api.load;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.Driver;
+import java.sql.DriverManager;
+import java.sql.DriverPropertyInfo;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+// Stands in for a remote database driver: jdbc:latency:<url> opens jdbc:<url> and delays every statement
+// while holding its connection's lock, where Connector/J waits on the socket. With locking "monitor" that
+// lock is the connection's monitor, as in Connector/J 8.0.32 and earlier, so a waiting virtual thread
+// pins its carrier. With locking "lock" it is a ReentrantLock, as in Connector/J 8.0.33 and later.
+public class LatencyInjectingDriver implements Driver {
+    static final String URL_PREFIX = "jdbc:latency:";
+    private static final String LATENCY_PROPERTY = "load.db-latency-ms";
+    private static final String LOCKING_PROPERTY = "load.db-driver-locking";
+    private static final String MONITOR_LOCKING = "monitor";
+    private static final String EXECUTE_PREFIX = "execute";
+
+    private final long latencyInMilliseconds = Long.getLong(LATENCY_PROPERTY, 0L);
+    private final boolean monitorLocking = MONITOR_LOCKING.equals(locking());
+
+    static String locking() {
+        return System.getProperty(LOCKING_PROPERTY, "lock").toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public Connection connect(String url, Properties info) throws SQLException {
+        if (!acceptsURL(url)) {
+            return null;
+        }
+
+        Connection connection = DriverManager.getConnection("jdbc:" + url.substring(URL_PREFIX.length()), info);
+        Lock lock = new ReentrantLock();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(connection, method, args);
+                    if (result instanceof CallableStatement) {
+                        return delay((Statement) result, CallableStatement.class, connection, lock);
+                    }
+                    if (result instanceof PreparedStatement) {
+                        return delay((Statement) result, PreparedStatement.class, connection, lock);
+                    }
+                    if (result instanceof Statement) {
+                        return delay((Statement) result, Statement.class, connection, lock);
+                    }
+                    return result;
+                });
+    }
+
+    private Object delay(Statement statement, Class<? extends Statement> type, Connection connection, Lock lock) {
+        return Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (!method.getName().startsWith(EXECUTE_PREFIX)) {
+                return invoke(statement, method, args);
+            }
+
+            if (monitorLocking) {
+                synchronized (connection) {
+                    sleep();
+                    return invoke(statement, method, args);
+                }
+            }
+
+            lock.lock();
+            try {
+                sleep();
+                return invoke(statement, method, args);
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    private void sleep() {
+        if (latencyInMilliseconds > 0) {
+            try {
+                Thread.sleep(latencyInMilliseconds);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    @Override
+    public boolean acceptsURL(String url) {
+        return url != null && url.startsWith(URL_PREFIX);
+    }
+
+    @Override
+    public DriverPropertyInfo[] getPropertyInfo(String url, Properties info) {
+        return new DriverPropertyInfo[0];
+    }
+
+    @Override
+    public int getMajorVersion() {
+        return 1;
+    }
+
+    @Override
+    public int getMinorVersion() {
+        return 0;
+    }
+
+    @Override
+    public boolean jdbcCompliant() {
+        return false;
+    }
+
+    @Override
+    public Logger getParentLogger() throws SQLFeatureNotSupportedException {
+        throw new SQLFeatureNotSupportedException();
+    }
+}
@@ -0,0 +1,59 @@
+package com.masonpohler.api.load;
+
+import java.util.Arrays;
+
+// Not thread safe: every worker records into its own instances, which are merged once the run is over.
+class LatencyRecorder {
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private long[] latencies = new long[INITIAL_CAPACITY];
+    private int count;
+    private int errorCount;
+    private boolean sorted = true;
+
+    void record(long latencyInNanoseconds, boolean success) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = latencyInNanoseconds;
+        sorted = false;
+        if (!success) {
+            errorCount++;
+        }
+    }
+
+    void merge(LatencyRecorder other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, Math.max(count + other.count, latencies.length * 2));
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        errorCount += other.errorCount;
+        sorted = false;
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    int getErrorCount() {
+        return errorCount;
+    }
+
+    double getErrorRate() {
+        return count == 0 ? 0 : (double) errorCount / count;
+    }
+
+    // Nearest-rank percentile, in nanoseconds.
+    long getPercentile(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(latencies, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * count);
+        return latencies[Math.max(0, Math.min(count, rank) - 1)];
+    }
+}
@@ -0,0 +1,63 @@
+package com.masonpohler.api.load;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+class LoadMix {
+    private static final String ENTRY_SEPARATOR = ",";
+    private static final String WEIGHT_SEPARATOR = "=";
+
+    private final LoadOperation[] operations;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    private LoadMix(Map<LoadOperation, Integer> weights) {
+        operations = new LoadOperation[weights.size()];
+        cumulativeWeights = new int[weights.size()];
+
+        int total = 0;
+        int i = 0;
+        for (Map.Entry<LoadOperation, Integer> weight : weights.entrySet()) {
+            total += weight.getValue();
+            operations[i] = weight.getKey();
+            cumulativeWeights[i] = total;
+            i++;
+        }
+        totalWeight = total;
+    }
+
+    // Parses "projects=40,project=30,..." where each weight is relative to the sum of all weights.
+    static LoadMix parse(String mix) {
+        Map<LoadOperation, Integer> weights = new EnumMap<>(LoadOperation.class);
+        for (String entry : mix.split(ENTRY_SEPARATOR)) {
+            String[] keyAndWeight = entry.trim().split(WEIGHT_SEPARATOR, 2);
+            if (keyAndWeight.length != 2) {
+                throw new IllegalArgumentException("Load mix entry " + entry + " is not of the form operation=weight.");
+            }
+
+            int weight = Integer.parseInt(keyAndWeight[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Load mix weight of " + keyAndWeight[0] + " must not be negative.");
+            }
+            if (weight > 0) {
+                weights.put(LoadOperation.fromKey(keyAndWeight[0].trim()), weight);
+            }
+        }
+
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Load mix must contain at least one operation.");
+        }
+        return new LoadMix(weights);
+    }
+
+    LoadOperation pick(Random random) {
+        int value = random.nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+}
@@ -0,0 +1,29 @@
+package com.masonpohler.api.load;
+
+enum LoadOperation {
+    LIST_PROJECTS("projects"),
+    GET_PROJECT("project"),
+    LOGIN("login"),
+    CREATE_PROJECT("create"),
+    ADD_SOURCE("add-source"),
+    REMOVE_SOURCE("remove-source");
+
+    private final String key;
+
+    LoadOperation(String key) {
+        this.key = key;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    static LoadOperation fromKey(String key) {
+        for (LoadOperation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load operation " + key + ".");
+    }
+}
@@ -0,0 +1,151 @@
+package com.masonpohler.api.load;
+
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClientException;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadLocalRandom;
+
+class LoadWorker implements Callable<Map<LoadOperation, LatencyRecorder>> {
+    private static final String SOURCE_URL_PREFIX = "https://load.example.com/";
+
+    private final TestRestTemplate restTemplate;
+    private final LoadMix mix;
+    private final List<Long> projectIds;
+    private final Map<String, String> credentials;
+    private final String token;
+    private final long deadlineInNanoseconds;
+
+    // Sources this worker added and has not removed yet, so removals always target an attached source.
+    private final Deque<AddedSource> addedSources = new ArrayDeque<>();
+
+    LoadWorker(TestRestTemplate restTemplate, LoadMix mix, List<Long> projectIds,
+               Map<String, String> credentials, String token, long deadlineInNanoseconds) {
+        this.restTemplate = restTemplate;
+        this.mix = mix;
+        this.projectIds = projectIds;
+        this.credentials = credentials;
+        this.token = token;
+        this.deadlineInNanoseconds = deadlineInNanoseconds;
+    }
+
+    @Override
+    public Map<LoadOperation, LatencyRecorder> call() {
+        Map<LoadOperation, LatencyRecorder> recorders = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : LoadOperation.values()) {
+            recorders.put(operation, new LatencyRecorder());
+        }
+
+        Random random = ThreadLocalRandom.current();
+        while (System.nanoTime() < deadlineInNanoseconds) {
+            LoadOperation operation = mix.pick(random);
+            if (operation == LoadOperation.REMOVE_SOURCE && addedSources.isEmpty()) {
+                operation = LoadOperation.ADD_SOURCE;
+            }
+
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                success = perform(operation, random);
+            } catch (RestClientException e) {
+                success = false;
+            }
+            recorders.get(operation).record(System.nanoTime() - start, success);
+        }
+        return recorders;
+    }
+
+    private boolean perform(LoadOperation operation, Random random) {
+        switch (operation) {
+            case LIST_PROJECTS:
+                return exchange(HttpMethod.GET, "/projects", null, false);
+            case GET_PROJECT:
+                return exchange(HttpMethod.GET, "/project/" + pickProjectId(random), null, false);
+            case LOGIN:
+                return exchange(HttpMethod.POST, "/login", credentials, false);
+            case CREATE_PROJECT:
+                return exchange(HttpMethod.POST, "/projects/create", newProject(), true);
+            case ADD_SOURCE:
+                return addSource(random);
+            case REMOVE_SOURCE:
+                return removeSource();
+            default:
+                throw new IllegalStateException("Unhandled load operation " + operation + ".");
+        }
+    }
+
+    private boolean addSource(Random random) {
+        AddedSource source = new AddedSource(pickProjectId(random), SOURCE_URL_PREFIX + UUID.randomUUID());
+        boolean success = exchange(HttpMethod.PUT, "/project/" + source.projectId + "/sources/add", source.toBody(), true);
+        if (success) {
+            addedSources.push(source);
+        }
+        return success;
+    }
+
+    private boolean removeSource() {
+        AddedSource source = addedSources.pop();
+        return exchange(HttpMethod.PUT, "/project/" + source.projectId + "/sources/remove", source.toBody(), true);
+    }
+
+    private boolean exchange(HttpMethod method, String path, Object body, boolean authorized) {
+        HttpHeaders headers = new HttpHeaders();
+        if (body != null) {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+        if (authorized) {
+            headers.set(HttpHeaders.AUTHORIZATION, token);
+        }
+
+        ResponseEntity<byte[]> response = restTemplate.exchange(path, method, new HttpEntity<>(body, headers), byte[].class);
+        return response.getStatusCode().is2xxSuccessful();
+    }
+
+    private long pickProjectId(Random random) {
+        return projectIds.get(random.nextInt(projectIds.size()));
+    }
+
+    private static Map<String, Object> newProject() {
+        String key = UUID.randomUUID().toString();
+        Map<String, Object> source = new HashMap<>();
+        source.put("name", "Source " + key);
+        source.put("url", SOURCE_URL_PREFIX + key);
+
+        Map<String, Object> project = new HashMap<>();
+        project.put("name", "Load Project " + key);
+        project.put("description", "Created by the load test.");
+        project.put("sources", Collections.singletonList(source));
+        return project;
+    }
+
+    private static class AddedSource {
+        private final long projectId;
+        private final String url;
+
+        private AddedSource(long projectId, String url) {
+            this.projectId = projectId;
+            this.url = url;
+        }
+
+        private Map<String, String> toBody() {
+            Map<String, String> body = new HashMap<>();
+            body.put("name", "Source " + url);
+            body.put("url", url);
+            return body;
+        }
+    }
+}
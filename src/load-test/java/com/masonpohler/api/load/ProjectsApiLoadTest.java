@@ -0,0 +1,286 @@
+package com.masonpohler.api.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masonpohler.api.environment.EnvironmentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.yaml.snakeyaml.error.MissingEnvironmentVariableException;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Run with: mvn -P load-test test [-Dload.threads=1,4,16 -Dload.duration-seconds=20 -Dload.projects=1000 ...]
+// Compare execution modes under database latency with -Dload.db-latency-ms=20 [-Dprojects.execution.virtual-threads=true]
+// [-Dload.db-driver-locking=monitor] to see the pinning of a driver that waits on the database inside synchronized
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=" + LatencyInjectingDriver.URL_PREFIX + "h2:mem:load;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driverClassName=com.masonpohler.api.load.LatencyInjectingDriver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "server.ssl.enabled=false"
+})
+class ProjectsApiLoadTest {
+    private static final String ADMIN_USERNAME = "load";
+    private static final String ADMIN_PASSWORD = "load-password";
+    private static final int SEED_BATCH_SIZE = 500;
+    private static final double[] PERCENTILES = {50, 95, 99, 99.9};
+    private static final double THRESHOLD_PERCENTILE = 99;
+
+    @Value("${load.projects:1000}")
+    private int projectCount;
+
+    @Value("${load.sources-per-project:3}")
+    private int sourcesPerProject;
+
+    @Value("${load.threads:1,4,16}")
+    private int[] threadCounts;
+
+    @Value("${load.warmup-seconds:5}")
+    private int warmupInSeconds;
+
+    @Value("${load.duration-seconds:20}")
+    private int durationInSeconds;
+
+    @Value("${load.mix:projects=40,project=30,login=5,create=10,add-source=10,remove-source=5}")
+    private String mix;
+
+    @Value("${load.max-error-rate:0.01}")
+    private double maxErrorRate;
+
+    @Value("${load.max-p99-ms:1000}")
+    private long maxP99InMilliseconds;
+
+    @Value("${load.min-throughput:50}")
+    private double minThroughput;
+
+    @Value("${projects.execution.virtual-threads}")
+    private boolean virtualThreads;
+
+    @Value("${load.report:target/load-test-report.txt}")
+    private String reportFile;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void mixed_traffic_meets_throughput_latency_and_error_thresholds() throws Exception {
+        Map<String, String> credentials = new HashMap<>();
+        credentials.put("username", ADMIN_USERNAME);
+        credentials.put("password", ADMIN_PASSWORD);
+
+        String token = login(credentials);
+        List<Long> projectIds = seedProjects(token);
+        LoadMix loadMix = LoadMix.parse(mix);
+
+        StringWriter report = new StringWriter();
+        PrintWriter out = new PrintWriter(report);
+        out.printf("Seeded %d projects with %d sources each, mix %s%n", projectIds.size(), sourcesPerProject, mix);
+        out.printf("Java %s, virtual threads %s, database latency %sms inside a driver %s%n", System.getProperty("java.version"),
+                virtualThreads, System.getProperty("load.db-latency-ms", "0"), LatencyInjectingDriver.locking());
+
+        List<String> failures = new ArrayList<>();
+        for (int threads : threadCounts) {
+            run(threads, warmupInSeconds, loadMix, projectIds, credentials, token);
+            Map<LoadOperation, LatencyRecorder> results = run(threads, durationInSeconds, loadMix, projectIds, credentials, token);
+            report(out, threads, results);
+            failures.addAll(checkThresholds(threads, results));
+        }
+        out.flush();
+
+        System.out.print(report);
+        writeReport(report.toString());
+        assertTrue(failures.isEmpty(), () -> "Load test thresholds were not met:\n" + String.join("\n", failures));
+    }
+
+    private String login(Map<String, String> credentials) {
+        ResponseEntity<String> response = restTemplate.postForEntity("/login", credentials, String.class);
+        assertTrue(response.getStatusCode().is2xxSuccessful(), "Login failed with " + response.getStatusCode());
+        return response.getBody();
+    }
+
+    private List<Long> seedProjects(String token) throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(HttpHeaders.AUTHORIZATION, token);
+
+        List<Long> projectIds = new ArrayList<>(projectCount);
+        for (int offset = 0; offset < projectCount; offset += SEED_BATCH_SIZE) {
+            List<Map<String, Object>> batch = new ArrayList<>();
+            for (int i = offset; i < Math.min(projectCount, offset + SEED_BATCH_SIZE); i++) {
+                batch.add(seedProject(i));
+            }
+
+            ResponseEntity<String> response = restTemplate.postForEntity("/projects/batch", new HttpEntity<>(batch, headers), String.class);
+            assertTrue(response.getStatusCode().is2xxSuccessful(), "Seeding failed with " + response.getStatusCode());
+            for (JsonNode result : objectMapper.readTree(response.getBody())) {
+                projectIds.add(result.get("id").asLong());
+            }
+        }
+
+        assertEquals(projectCount, projectIds.size());
+        return Collections.unmodifiableList(projectIds);
+    }
+
+    private Map<String, Object> seedProject(int index) {
+        List<Map<String, Object>> sources = new ArrayList<>();
+        for (int i = 0; i < sourcesPerProject; i++) {
+            Map<String, Object> source = new HashMap<>();
+            source.put("name", "Seed Source " + index + "-" + i);
+            source.put("url", "https://seed.example.com/" + index + "/" + i);
+            sources.add(source);
+        }
+
+        Map<String, Object> project = new HashMap<>();
+        project.put("name", "Seed Project " + index);
+        project.put("description", "Seeded by the load test.");
+        project.put("detailedDescription", "A longer description of seeded project " + index + ".");
+        project.put("sources", sources);
+        return project;
+    }
+
+    private Map<LoadOperation, LatencyRecorder> run(int threads, int seconds, LoadMix loadMix, List<Long> projectIds,
+                                                    Map<String, String> credentials, String token)
+            throws InterruptedException, ExecutionException {
+        Map<LoadOperation, LatencyRecorder> results = new EnumMap<>(LoadOperation.class);
+        for (LoadOperation operation : LoadOperation.values()) {
+            results.put(operation, new LatencyRecorder());
+        }
+        if (seconds <= 0) {
+            return results;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        List<LoadWorker> workers = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            workers.add(new LoadWorker(restTemplate, loadMix, projectIds, credentials, token, deadline));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (Future<Map<LoadOperation, LatencyRecorder>> future : executor.invokeAll(workers)) {
+                for (Map.Entry<LoadOperation, LatencyRecorder> recorder : future.get().entrySet()) {
+                    results.get(recorder.getKey()).merge(recorder.getValue());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return results;
+    }
+
+    private void report(PrintWriter out, int threads, Map<LoadOperation, LatencyRecorder> results) {
+        LatencyRecorder total = total(results);
+        out.printf("%nthreads=%d duration=%ds requests=%d throughput=%.1f/s errors=%.2f%%%n",
+                threads, durationInSeconds, total.getCount(), throughput(total), total.getErrorRate() * 100);
+        out.printf("%-14s %9s %9s %9s %9s %9s %9s%n", "operation", "count", "errors", "p50 ms", "p95 ms", "p99 ms", "p99.9 ms");
+
+        for (Map.Entry<LoadOperation, LatencyRecorder> result : results.entrySet()) {
+            reportLine(out, result.getKey().getKey(), result.getValue());
+        }
+        reportLine(out, "total", total);
+    }
+
+    private void reportLine(PrintWriter out, String name, LatencyRecorder recorder) {
+        out.printf("%-14s %9d %9d", name, recorder.getCount(), recorder.getErrorCount());
+        for (double percentile : PERCENTILES) {
+            out.printf(" %9.2f", recorder.getPercentile(percentile) / 1_000_000.0);
+        }
+        out.println();
+    }
+
+    private List<String> checkThresholds(int threads, Map<LoadOperation, LatencyRecorder> results) {
+        List<String> failures = new ArrayList<>();
+        LatencyRecorder total = total(results);
+
+        if (total.getErrorRate() > maxErrorRate) {
+            failures.add(String.format("threads=%d: error rate %.4f exceeds %.4f", threads, total.getErrorRate(), maxErrorRate));
+        }
+        if (throughput(total) < minThroughput) {
+            failures.add(String.format("threads=%d: throughput %.1f/s is below %.1f/s", threads, throughput(total), minThroughput));
+        }
+        for (Map.Entry<LoadOperation, LatencyRecorder> result : results.entrySet()) {
+            long p99 = TimeUnit.NANOSECONDS.toMillis(result.getValue().getPercentile(THRESHOLD_PERCENTILE));
+            if (p99 > maxP99InMilliseconds) {
+                failures.add(String.format("threads=%d: %s p99 of %dms exceeds %dms",
+                        threads, result.getKey().getKey(), p99, maxP99InMilliseconds));
+            }
+        }
+        return failures;
+    }
+
+    private LatencyRecorder total(Map<LoadOperation, LatencyRecorder> results) {
+        LatencyRecorder total = new LatencyRecorder();
+        for (LatencyRecorder recorder : results.values()) {
+            total.merge(recorder);
+        }
+        return total;
+    }
+
+    private double throughput(LatencyRecorder recorder) {
+        return (double) recorder.getCount() / durationInSeconds;
+    }
+
+    private void writeReport(String report) throws IOException {
+        Path path = Paths.get(reportFile);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.write(path, report.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @TestConfiguration
+    static class LoadTestEnvironment {
+
+        @Bean
+        @Primary
+        EnvironmentService loadTestEnvironmentService() {
+            Map<String, String> variables = new HashMap<>();
+            variables.put("API_SECRET", "load-test-secret");
+            variables.put("APPLICATION_URL", "http://localhost");
+            variables.put("ADMIN_USERNAME", ADMIN_USERNAME);
+            variables.put("ADMIN_PASSWORD", ADMIN_PASSWORD);
+
+            return key -> {
+                String value = variables.get(key);
+                if (value == null) {
+                    throw new MissingEnvironmentVariableException("EnvironmentService variable " + key + " is not set.");
+                }
+                return value;
+            };
+        }
+    }
+}
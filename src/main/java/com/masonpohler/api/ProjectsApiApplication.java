@@ -1,8 +1,15 @@
 package com.masonpohler.api;
 
+import com.masonpohler.api.persistence.TimedJpaRepositoryFactoryBean;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableCaching
+@EnableJpaRepositories(repositoryFactoryBeanClass = TimedJpaRepositoryFactoryBean.class)
+@EnableScheduling
 @SpringBootApplication
 public class ProjectsApiApplication {
 
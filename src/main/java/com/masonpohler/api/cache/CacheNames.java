@@ -0,0 +1,14 @@
+package com.masonpohler.api.cache;
+
+public final class CacheNames {
+    public static final String PROJECTS = "projects";
+    public static final String PROJECT = "project";
+    public static final String PROJECT_DETAILS = "projectDetails";
+    public static final String PROJECT_SUMMARIES = "projectSummaries";
+    public static final String SOURCES = "sources";
+    public static final String SOURCE = "source";
+    public static final String VALIDATED_TOKENS = "validatedTokens";
+
+    private CacheNames() {
+    }
+}
@@ -0,0 +1,12 @@
+package com.masonpohler.api.cache;
+
+import lombok.Data;
+
+@Data
+class CacheStatistics {
+    private long size;
+    private long hits;
+    private long misses;
+    private double hitRate;
+    private long evictions;
+}
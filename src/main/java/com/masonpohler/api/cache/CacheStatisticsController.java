@@ -0,0 +1,58 @@
+package com.masonpohler.api.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@RestController
+class CacheStatisticsController {
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired(required = false)
+    private List<ManagedCache> managedCaches = Collections.emptyList();
+
+    @GetMapping("/caches")
+    Map<String, CacheStatistics> getCacheStatistics() {
+        Map<String, CacheStatistics> statistics = new TreeMap<>();
+
+        for (String name : cacheManager.getCacheNames()) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache instanceof TransactionAwareCacheDecorator) {
+                cache = ((TransactionAwareCacheDecorator) cache).getTargetCache();
+            }
+            if (cache instanceof CaffeineCache) {
+                statistics.put(name, toStatistics(((CaffeineCache) cache).getNativeCache()));
+            }
+        }
+
+        for (ManagedCache managedCache : managedCaches) {
+            statistics.put(managedCache.getCacheName(), toStatistics(managedCache.getNativeCache()));
+        }
+
+        return statistics;
+    }
+
+    private CacheStatistics toStatistics(com.github.benmanes.caffeine.cache.Cache<?, ?> cache) {
+        CacheStats stats = cache.stats();
+
+        CacheStatistics statistics = new CacheStatistics();
+        statistics.setSize(cache.estimatedSize());
+        statistics.setHits(stats.hitCount());
+        statistics.setMisses(stats.missCount());
+        statistics.setHitRate(stats.hitRate());
+        statistics.setEvictions(stats.evictionCount());
+        return statistics;
+    }
+}
@@ -0,0 +1,20 @@
+package com.masonpohler.api.cache;
+
+// Last-Modified of a whole collection. The newest lastModified of its items does not move when an item is deleted, so
+// whenever the collection's content changes, Last-Modified also moves to the time the change was first observed.
+public class LastModifiedTracker {
+    // HTTP dates only have second precision, so a change must move Last-Modified by at least a second to be visible.
+    private static final long HTTP_DATE_PRECISION_IN_MILLISECONDS = 1000L;
+
+    private String contentVersion;
+    private long lastModified;
+
+    public synchronized long update(String currentContentVersion, long newestItemModification) {
+        if (!currentContentVersion.equals(contentVersion)) {
+            long observedAt = Math.max(System.currentTimeMillis(), lastModified + HTTP_DATE_PRECISION_IN_MILLISECONDS);
+            lastModified = Math.max(newestItemModification, observedAt);
+            contentVersion = currentContentVersion;
+        }
+        return lastModified;
+    }
+}
@@ -0,0 +1,8 @@
+package com.masonpohler.api.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+public interface ManagedCache {
+    String getCacheName();
+    Cache<?, ?> getNativeCache();
+}
@@ -0,0 +1,20 @@
+package com.masonpohler.api.cache;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.stereotype.Component;
+
+// Defers cache puts and evictions made inside a transaction until it commits, so a concurrent
+// read can not cache rows the transaction is still changing
+@Component
+public class TransactionAwareCacheManagerPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof CacheManager && !(bean instanceof TransactionAwareCacheManagerProxy)) {
+            return new TransactionAwareCacheManagerProxy((CacheManager) bean);
+        }
+        return bean;
+    }
+}
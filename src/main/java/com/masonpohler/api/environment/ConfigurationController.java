@@ -0,0 +1,17 @@
+package com.masonpohler.api.environment;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+class ConfigurationController {
+
+    @Autowired
+    private ConfigurationService configurationService;
+
+    @PostMapping("/config/reload")
+    void reloadConfiguration() {
+        configurationService.reload();
+    }
+}
@@ -0,0 +1,8 @@
+package com.masonpohler.api.environment;
+
+import lombok.Data;
+
+@Data
+public class ConfigurationReloadedEvent {
+    private final ConfigurationSnapshot snapshot;
+}
@@ -0,0 +1,67 @@
+package com.masonpohler.api.environment;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+@Service
+public class ConfigurationService {
+    private static final String API_SECRET_ENVIRONMENT_VARIABLE_NAME = "API_SECRET";
+    private static final String APPLICATION_URL_VARIABLE_NAME = "APPLICATION_URL";
+    private static final String SIGNING_KEY_ALGORITHM = "HmacSHA256";
+    private static final String ORIGIN_SEPARATOR = ",";
+
+    @Autowired
+    private EnvironmentService environmentService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private volatile ConfigurationSnapshot snapshot;
+
+    @PostConstruct
+    void load() {
+        snapshot = buildSnapshot(environmentService);
+    }
+
+    public ConfigurationSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    public synchronized ConfigurationSnapshot reload() {
+        // The reloaded variables are only applied once a snapshot could be built from them, so both change together.
+        ConfigurationSnapshot reloadedSnapshot = environmentService.reload(this::buildSnapshot);
+        snapshot = reloadedSnapshot;
+        eventPublisher.publishEvent(new ConfigurationReloadedEvent(reloadedSnapshot));
+        return reloadedSnapshot;
+    }
+
+    private ConfigurationSnapshot buildSnapshot(EnvironmentService environment) {
+        String apiSecret = environment.getEnv(API_SECRET_ENVIRONMENT_VARIABLE_NAME);
+        String applicationURL = environment.getEnv(APPLICATION_URL_VARIABLE_NAME);
+
+        SecretKeySpec signingKey = new SecretKeySpec(apiSecret.getBytes(StandardCharsets.UTF_8), SIGNING_KEY_ALGORITHM);
+        return new ConfigurationSnapshot(signingKey, parseOrigins(applicationURL));
+    }
+
+    private Set<String> parseOrigins(String applicationURL) {
+        Set<String> origins = new HashSet<>();
+        for (String origin : applicationURL.split(ORIGIN_SEPARATOR)) {
+            String trimmedOrigin = origin.trim();
+            if (trimmedOrigin.endsWith("/")) {
+                trimmedOrigin = trimmedOrigin.substring(0, trimmedOrigin.length() - 1);
+            }
+            if (!trimmedOrigin.isEmpty()) {
+                origins.add(trimmedOrigin);
+            }
+        }
+        return Collections.unmodifiableSet(origins);
+    }
+}
@@ -0,0 +1,12 @@
+package com.masonpohler.api.environment;
+
+import lombok.Data;
+
+import javax.crypto.SecretKey;
+import java.util.Set;
+
+@Data
+public class ConfigurationSnapshot {
+    private final SecretKey signingKey;
+    private final Set<String> allowedOrigins;
+}
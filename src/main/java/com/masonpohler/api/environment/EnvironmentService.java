@@ -1,5 +1,15 @@
 package com.masonpohler.api.environment;
 
+import java.util.function.Function;
+
 public interface EnvironmentService {
     String getEnv(String key);
+
+    default void reload() {
+    }
+
+    // Reads the variables again, but only applies them once validator has accepted a view of them.
+    default <T> T reload(Function<EnvironmentService, T> validator) {
+        return validator.apply(this);
+    }
 }
@@ -1,14 +1,50 @@
 package com.masonpohler.api.environment;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.yaml.snakeyaml.error.MissingEnvironmentVariableException;
 
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+
 @Service
 public class SystemEnvironmentService implements EnvironmentService {
 
+    @Value("${environment.overlay-file:}")
+    private String overlayFile;
+
+    private volatile Map<String, String> variables = Collections.emptyMap();
+
+    @PostConstruct
+    @Override
+    public void reload() {
+        reload(environment -> null);
+    }
+
+    @Override
+    public synchronized <T> T reload(Function<EnvironmentService, T> validator) {
+        Map<String, String> reloadedVariables = readVariables();
+        T result = validator.apply(key -> getEnv(reloadedVariables, key));
+        variables = reloadedVariables;
+        return result;
+    }
+
     @Override
     public String getEnv(String key) {
-        String env = System.getenv(key);
+        return getEnv(variables, key);
+    }
+
+    private static String getEnv(Map<String, String> variables, String key) {
+        String env = variables.get(key);
 
         if (env == null) {
             throw new MissingEnvironmentVariableException("EnvironmentService variable " + key + " is not set.");
@@ -16,4 +52,27 @@ public class SystemEnvironmentService implements EnvironmentService {
 
         return env;
     }
+
+    private Map<String, String> readVariables() {
+        Map<String, String> reloadedVariables = new HashMap<>(System.getenv());
+
+        if (overlayFile != null && !overlayFile.isEmpty()) {
+            Properties overlay = readOverlayFile();
+            for (String key : overlay.stringPropertyNames()) {
+                reloadedVariables.put(key, overlay.getProperty(key));
+            }
+        }
+
+        return Collections.unmodifiableMap(reloadedVariables);
+    }
+
+    private Properties readOverlayFile() {
+        Properties overlay = new Properties();
+        try (InputStream inputStream = Files.newInputStream(Paths.get(overlayFile))) {
+            overlay.load(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read environment overlay file " + overlayFile + ".", e);
+        }
+        return overlay;
+    }
 }
@@ -0,0 +1,38 @@
+package com.masonpohler.api.execution;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.ExecutorService;
+
+// Runs every request, and the blocking repository calls it makes, on its own virtual thread instead of a pooled
+// Tomcat worker. Database concurrency is then bounded by DatabaseConcurrencyLimiter rather than by the worker pool.
+@Configuration
+@ConditionalOnProperty(name = "projects.execution.virtual-threads", havingValue = "true")
+class VirtualThreadExecutionConfig implements WebMvcConfigurer {
+
+    private final ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+
+    @Bean
+    WebServerFactoryCustomizer<TomcatServletWebServerFactory> virtualThreadTomcatCustomizer() {
+        return factory -> factory.addProtocolHandlerCustomizers(protocolHandler -> protocolHandler.setExecutor(executor));
+    }
+
+    // Streaming exports and imports continue on virtual threads too, instead of the bounded application task executor.
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(new ConcurrentTaskExecutor(executor));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+}
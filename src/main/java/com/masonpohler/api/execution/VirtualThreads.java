@@ -0,0 +1,39 @@
+package com.masonpohler.api.execution;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// The application is built for Java 8, so virtual threads can only be reached reflectively on a newer runtime.
+final class VirtualThreads {
+    private static final String EXECUTOR_FACTORY_METHOD = "newVirtualThreadPerTaskExecutor";
+
+    private VirtualThreads() {
+    }
+
+    static boolean isSupported() {
+        return findMethod(Executors.class, EXECUTOR_FACTORY_METHOD) != null;
+    }
+
+    static ExecutorService newVirtualThreadPerTaskExecutor() {
+        Method factoryMethod = findMethod(Executors.class, EXECUTOR_FACTORY_METHOD);
+        if (factoryMethod == null) {
+            throw new IllegalStateException("Virtual threads need Java 21 or newer, but the application runs on Java "
+                    + System.getProperty("java.version") + ".");
+        }
+
+        try {
+            return (ExecutorService) factoryMethod.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not create a virtual thread executor.", e);
+        }
+    }
+
+    private static Method findMethod(Class<?> type, String name) {
+        try {
+            return type.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.masonpohler.api.persistence;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Holds a permit for as long as a connection is borrowed. With open session in view a connection can outlive the
+// repository call that borrowed it, so permits follow connections rather than repository invocations.
+class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+    private static final String CLOSE_METHOD = "close";
+    private static final String EQUALS_METHOD = "equals";
+    private static final String HASH_CODE_METHOD = "hashCode";
+
+    private final DatabaseConcurrencyLimiter limiter;
+
+    ConcurrencyLimitedDataSource(DataSource dataSource, DatabaseConcurrencyLimiter limiter) {
+        super(dataSource);
+        this.limiter = limiter;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        limiter.acquire();
+        try {
+            return limit(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            limiter.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        limiter.acquire();
+        try {
+            return limit(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            limiter.release();
+            throw e;
+        }
+    }
+
+    private Connection limit(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case EQUALS_METHOD:
+                            return proxy == args[0];
+                        case HASH_CODE_METHOD:
+                            return System.identityHashCode(proxy);
+                        case CLOSE_METHOD:
+                            try {
+                                connection.close();
+                            } finally {
+                                if (released.compareAndSet(false, true)) {
+                                    limiter.release();
+                                }
+                            }
+                            return null;
+                        default:
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getTargetException();
+                            }
+                    }
+                });
+    }
+}
@@ -0,0 +1,26 @@
+package com.masonpohler.api.persistence;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+// Only needed while requests run on virtual threads, where the Tomcat worker pool no longer bounds them
+@Component
+@ConditionalOnProperty(name = "projects.execution.virtual-threads", havingValue = "true")
+class ConcurrencyLimitedDataSourcePostProcessor implements BeanPostProcessor {
+
+    @Autowired
+    private ObjectProvider<DatabaseConcurrencyLimiter> limiter;
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource && !(bean instanceof ConcurrencyLimitedDataSource)) {
+            return new ConcurrencyLimitedDataSource((DataSource) bean, limiter.getObject());
+        }
+        return bean;
+    }
+}
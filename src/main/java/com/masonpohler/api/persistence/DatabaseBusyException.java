@@ -0,0 +1,12 @@
+package com.masonpohler.api.persistence;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(code = HttpStatus.SERVICE_UNAVAILABLE)
+public class DatabaseBusyException extends RuntimeException {
+
+    DatabaseBusyException(int maxConcurrency, long acquireTimeoutInMilliseconds) {
+        super("All " + maxConcurrency + " database permits stayed in use for " + acquireTimeoutInMilliseconds + "ms");
+    }
+}
@@ -0,0 +1,47 @@
+package com.masonpohler.api.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@ConditionalOnProperty(name = "projects.execution.virtual-threads", havingValue = "true")
+public class DatabaseConcurrencyLimiter {
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final long acquireTimeoutInMilliseconds;
+
+    DatabaseConcurrencyLimiter(@Value("${projects.db.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrency,
+                               @Value("${projects.db.acquire-timeout-ms:30000}") long acquireTimeoutInMilliseconds) {
+        // Fair, so requests waiting for the database are served in arrival order while it is saturated.
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeoutInMilliseconds = acquireTimeoutInMilliseconds;
+    }
+
+    void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutInMilliseconds, TimeUnit.MILLISECONDS)) {
+                throw new DatabaseBusyException(maxConcurrency, acquireTimeoutInMilliseconds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseBusyException(maxConcurrency, acquireTimeoutInMilliseconds);
+        }
+    }
+
+    void release() {
+        permits.release();
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getWaitingCount() {
+        return permits.getQueueLength();
+    }
+}
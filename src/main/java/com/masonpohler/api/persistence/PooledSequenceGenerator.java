@@ -0,0 +1,33 @@
+package com.masonpohler.api.persistence;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+import java.util.Properties;
+
+public class PooledSequenceGenerator extends SequenceStyleGenerator {
+    public static final String NAME = "pooled_sequence";
+    public static final String STRATEGY = "com.masonpohler.api.persistence.PooledSequenceGenerator";
+    public static final String ALLOCATION_SIZE_SETTING = "projects.id.allocation_size";
+    static final String SEQUENCE_NAME = "hibernate_sequence";
+    static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    @Override
+    public void configure(Type type, Properties params, ServiceRegistry serviceRegistry) throws MappingException {
+        int allocationSize = ConfigurationHelper.getInt(
+                ALLOCATION_SIZE_SETTING,
+                serviceRegistry.getService(ConfigurationService.class).getSettings(),
+                DEFAULT_ALLOCATION_SIZE
+        );
+
+        params.setProperty(SEQUENCE_PARAM, SEQUENCE_NAME);
+        params.setProperty(INCREMENT_PARAM, Integer.toString(allocationSize));
+        params.setProperty(OPT_PARAM, StandardOptimizerDescriptor.POOLED_LO.getExternalName());
+        super.configure(type, params, serviceRegistry);
+    }
+}
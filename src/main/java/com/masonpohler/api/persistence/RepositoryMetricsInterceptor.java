@@ -0,0 +1,55 @@
+package com.masonpohler.api.persistence;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.concurrent.TimeUnit;
+
+public class RepositoryMetricsInterceptor implements MethodInterceptor {
+    public static final String TIMER_NAME = "projects.repository.invocations";
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String ERROR = "ERROR";
+    private static final String NO_EXCEPTION = "none";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String repositoryName;
+
+    public RepositoryMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry, Class<?> repositoryInterface) {
+        this.meterRegistry = meterRegistry;
+        this.repositoryName = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return invocation.proceed();
+        }
+
+        long start = registry.config().clock().monotonicTime();
+        String outcome = SUCCESS;
+        String exception = NO_EXCEPTION;
+        try {
+            return invocation.proceed();
+
+        } catch (Throwable e) {
+            outcome = ERROR;
+            exception = e.getClass().getSimpleName();
+            throw e;
+
+        } finally {
+            long duration = registry.config().clock().monotonicTime() - start;
+            Timer.builder(TIMER_NAME)
+                    .tag("repository", repositoryName)
+                    .tag("method", invocation.getMethod().getName())
+                    .tag("outcome", outcome)
+                    .tag("exception", exception)
+                    .register(registry)
+                    .record(duration, TimeUnit.NANOSECONDS);
+        }
+    }
+}
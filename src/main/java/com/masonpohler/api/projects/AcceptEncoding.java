@@ -0,0 +1,49 @@
+package com.masonpohler.api.projects;
+
+import java.util.Locale;
+
+// Reads an Accept-Encoding header as RFC 7231 section 5.3.4 does: an entry naming the coding decides,
+// otherwise "*" does, and a quality of 0 means the coding is not acceptable.
+class AcceptEncoding {
+    private static final String ENTRY_SEPARATOR = ",";
+    private static final String PARAMETER_SEPARATOR = ";";
+    private static final String QUALITY_PARAMETER = "q=";
+    private static final String WILDCARD = "*";
+    private static final double DEFAULT_QUALITY = 1.0;
+
+    static boolean accepts(String acceptEncoding, String coding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+
+        Double codingQuality = null;
+        Double wildcardQuality = null;
+        for (String entry : acceptEncoding.split(ENTRY_SEPARATOR)) {
+            String[] parts = entry.split(PARAMETER_SEPARATOR);
+            String name = parts[0].trim();
+            if (name.equalsIgnoreCase(coding)) {
+                codingQuality = quality(parts);
+            } else if (name.equals(WILDCARD)) {
+                wildcardQuality = quality(parts);
+            }
+        }
+
+        Double quality = codingQuality != null ? codingQuality : wildcardQuality;
+        return quality != null && quality > 0;
+    }
+
+    // A malformed quality makes the entry unacceptable rather than preferred
+    private static double quality(String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            String parameter = parts[i].trim().toLowerCase(Locale.ROOT);
+            if (parameter.startsWith(QUALITY_PARAMETER)) {
+                try {
+                    return Double.parseDouble(parameter.substring(QUALITY_PARAMETER.length()).trim());
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return DEFAULT_QUALITY;
+    }
+}
@@ -0,0 +1,12 @@
+package com.masonpohler.api.projects;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(code = HttpStatus.PAYLOAD_TOO_LARGE)
+class BatchTooLargeException extends RuntimeException {
+
+    BatchTooLargeException(String items, int size, int maxSize) {
+        super("Batch of " + size + " " + items + " exceeds the maximum of " + maxSize);
+    }
+}
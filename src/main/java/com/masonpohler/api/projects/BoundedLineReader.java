@@ -0,0 +1,86 @@
+package com.masonpohler.api.projects;
+
+import java.io.IOException;
+import java.io.Reader;
+
+// Reads lines ending in \n or \r\n, keeping at most maxLength characters of each. The rest of a longer line
+// is skipped rather than buffered, so an upload without line separators cannot be read whole into memory.
+class BoundedLineReader {
+    private static final int BUFFER_SIZE = 8192;
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final char LINE_FEED = '\n';
+
+    private final Reader reader;
+    private final int maxLength;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean tooLong;
+
+    BoundedLineReader(Reader reader, int maxLength) {
+        this.reader = reader;
+        this.maxLength = maxLength;
+    }
+
+    // Returns null at the end of the input
+    String readLine() throws IOException {
+        StringBuilder line = new StringBuilder();
+        tooLong = false;
+        boolean endOfInput = true;
+
+        int c;
+        while ((c = read()) >= 0) {
+            endOfInput = false;
+            if (c == LINE_FEED) {
+                break;
+            }
+
+            if (line.length() < maxLength) {
+                line.append((char) c);
+            } else if (c != CARRIAGE_RETURN || peek() != LINE_FEED) {
+                tooLong = true;
+            }
+        }
+
+        if (endOfInput) {
+            return null;
+        }
+
+        int length = line.length();
+        if (c == LINE_FEED && length > 0 && line.charAt(length - 1) == CARRIAGE_RETURN) {
+            line.setLength(length - 1);
+        }
+        return line.toString();
+    }
+
+    // Whether the last line read was cut short at maxLength characters
+    boolean isTooLong() {
+        return tooLong;
+    }
+
+    private int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return buffer[position++];
+    }
+
+    private int peek() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return buffer[position];
+    }
+
+    private boolean fill() throws IOException {
+        while (position == limit) {
+            int read = reader.read(buffer, 0, BUFFER_SIZE);
+            if (read < 0) {
+                return false;
+            }
+            position = 0;
+            limit = read;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+package com.masonpohler.api.projects;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Runs a rebuild on its own daemon thread. Requests made while a rebuild is still queued share it,
+// so a burst of changes costs one rebuild rather than one per change.
+class CoalescingRebuilder {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CoalescingRebuilder.class);
+
+    private final String name;
+    private final Runnable rebuild;
+    private final ExecutorService executor;
+    private final AtomicBoolean pending = new AtomicBoolean();
+
+    CoalescingRebuilder(String name, Runnable rebuild) {
+        this.name = name;
+        this.rebuild = rebuild;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    void request() {
+        if (pending.compareAndSet(false, true)) {
+            executor.execute(() -> {
+                pending.set(false);
+                try {
+                    rebuild.run();
+                } catch (RuntimeException e) {
+                    LOGGER.error("Failed to rebuild {}", name, e);
+                }
+            });
+        }
+    }
+
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,12 @@
+package com.masonpohler.api.projects;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(code = HttpStatus.BAD_REQUEST)
+class InvalidCursorException extends RuntimeException {
+
+    InvalidCursorException(String cursor) {
+        super("Cursor " + cursor + " is not valid");
+    }
+}
@@ -0,0 +1,50 @@
+package com.masonpohler.api.projects;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import org.hibernate.Hibernate;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.Basic;
+import javax.persistence.FetchType;
+import java.util.List;
+
+@Component
+class LazyAttributeModule extends SimpleModule {
+
+    LazyAttributeModule() {
+        super(LazyAttributeModule.class.getSimpleName());
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc, List<BeanPropertyWriter> beanProperties) {
+                for (int i = 0; i < beanProperties.size(); i++) {
+                    BeanPropertyWriter writer = beanProperties.get(i);
+                    Basic basic = writer.getAnnotation(Basic.class);
+                    if (basic != null && basic.fetch() == FetchType.LAZY) {
+                        beanProperties.set(i, new LoadedAttributeWriter(writer));
+                    }
+                }
+                return beanProperties;
+            }
+        });
+    }
+
+    private static class LoadedAttributeWriter extends BeanPropertyWriter {
+
+        LoadedAttributeWriter(BeanPropertyWriter writer) {
+            super(writer);
+        }
+
+        @Override
+        public void serializeAsField(Object bean, JsonGenerator gen, SerializerProvider prov) throws Exception {
+            if (Hibernate.isPropertyInitialized(bean, getName())) {
+                super.serializeAsField(bean, gen, prov);
+            }
+        }
+    }
+}
@@ -1,8 +1,11 @@
 package com.masonpohler.api.projects;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.masonpohler.api.persistence.PooledSequenceGenerator;
 import com.masonpohler.api.source.Source;
 import lombok.Data;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.GenericGenerator;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import javax.persistence.*;
@@ -12,10 +15,12 @@ import java.util.Set;
 
 @Data
 @Entity
+@Table(indexes = @Index(name = "idx_project_last_modified_id", columnList = "lastModified, id"))
 class Project {
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = PooledSequenceGenerator.NAME)
+    @GenericGenerator(name = PooledSequenceGenerator.NAME, strategy = PooledSequenceGenerator.STRATEGY)
     private long id;
 
     private String name;
@@ -23,6 +28,7 @@ class Project {
     @Column(columnDefinition = "TINYTEXT")
     private String description;
 
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "MEDIUMTEXT")
     private String detailedDescription;
 
@@ -32,6 +38,7 @@ class Project {
 
     @ManyToMany(fetch = FetchType.LAZY, cascade = {CascadeType.PERSIST, CascadeType.DETACH, CascadeType.MERGE, CascadeType.REFRESH})
     @JsonIgnoreProperties("projects")
+    @BatchSize(size = 100)
     @JoinTable(
             name = "project_source",
             joinColumns = @JoinColumn(name = "project_id", referencedColumnName = "id"),
@@ -0,0 +1,24 @@
+package com.masonpohler.api.projects;
+
+import lombok.Data;
+
+@Data
+class ProjectBatchResult {
+    enum Status {
+        CREATED,
+        REJECTED
+    }
+
+    private final int index;
+    private final Status status;
+    private final Long id;
+    private final String error;
+
+    static ProjectBatchResult created(int index, long id) {
+        return new ProjectBatchResult(index, Status.CREATED, id, null);
+    }
+
+    static ProjectBatchResult rejected(int index, String error) {
+        return new ProjectBatchResult(index, Status.REJECTED, null, error);
+    }
+}
@@ -0,0 +1,15 @@
+package com.masonpohler.api.projects;
+
+import lombok.Data;
+
+@Data
+class ProjectChangedEvent {
+    enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final long projectId;
+}
@@ -0,0 +1,15 @@
+package com.masonpohler.api.projects;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+class ProjectChanges {
+    private List<Project> changed;
+    private List<Long> deleted;
+    private boolean reset;
+    private String token;
+}
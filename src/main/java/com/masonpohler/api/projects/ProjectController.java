@@ -2,52 +2,263 @@ package com.masonpohler.api.projects;
 
 import com.masonpohler.api.source.Source;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 class ProjectController {
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String GZIP_ENCODING = "gzip";
+    private static final String DETAILED_DESCRIPTION_ATTRIBUTE = "detailedDescription";
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    @Value("${projects.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Value("${projects.changes.overlap-ms:5000}")
+    private long changesOverlapInMilliseconds;
+
+    @Value("${projects.changes.tombstone-retention-days:30}")
+    private int tombstoneRetentionInDays;
 
     @Autowired
     private ProjectRepository repository;
 
+    @Autowired
+    private ProjectListSnapshotCache snapshotCache;
+
+    @Autowired
+    private ProjectSearchIndex searchIndex;
+
+    @Autowired
+    private ProjectExporter projectExporter;
+
+    @Autowired
+    private ProjectImporter projectImporter;
+
+    @Autowired
+    private SourceResolver sourceResolver;
+
+    @Autowired
+    private ProjectSourceLinker sourceLinker;
+
+    @Autowired
+    private ProjectDeleter projectDeleter;
+
+    @Autowired
+    private ProjectTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private ProjectEventStream eventStream;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @GetMapping("/projects")
-    List<Project> getAllProjects() {
-        return repository.findAllByOrderByLastModifiedDesc();
+    ResponseEntity<byte[]> getAllProjects(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        ProjectListSnapshot snapshot = snapshotCache.getSnapshot();
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                .cacheControl(CacheControl.noCache())
+                .lastModified(snapshot.getLastModified());
+
+        if (AcceptEncoding.accepts(acceptEncoding, GZIP_ENCODING)) {
+            return response
+                    .eTag(snapshot.getGzippedEtag())
+                    .header(HttpHeaders.CONTENT_ENCODING, GZIP_ENCODING)
+                    .contentLength(snapshot.getGzippedJson().length)
+                    .body(snapshot.getGzippedJson());
+        }
+
+        return response
+                .eTag(snapshot.getEtag())
+                .contentLength(snapshot.getJson().length)
+                .body(snapshot.getJson());
+    }
+
+    @GetMapping("/projects/summary")
+    List<ProjectSummary> getProjectSummaries() {
+        return repository.findAllProjectedByOrderByLastModifiedDesc();
+    }
+
+    @GetMapping("/projects/search")
+    ProjectSearchPage searchProjects(@RequestParam String q,
+                                     @RequestParam(defaultValue = "0") int offset,
+                                     @RequestParam(defaultValue = "20") int limit) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return searchIndex.search(q, Math.max(0, offset), pageSize);
+    }
+
+    @GetMapping("/projects/export")
+    ResponseEntity<StreamingResponseBody> exportProjects() {
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(projectExporter::export);
+    }
+
+    @GetMapping(value = "/projects/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter streamProjectChanges() {
+        return eventStream.subscribe();
+    }
+
+    @GetMapping(value = "/projects", params = "limit")
+    ProjectPage getProjectPage(@RequestParam int limit, @RequestParam(required = false) String cursor) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+
+        List<Project> projects;
+        if (cursor == null) {
+            projects = repository.findFirstPage(pageRequest);
+        } else {
+            ProjectCursor after = ProjectCursor.decode(cursor);
+            projects = repository.findPageAfter(after.getLastModified(), after.getId(), pageRequest);
+        }
+
+        if (projects.size() <= pageSize) {
+            return new ProjectPage(projects, null);
+        }
+
+        List<Project> items = projects.subList(0, pageSize);
+        String next = ProjectCursor.after(items.get(pageSize - 1)).encode();
+        return new ProjectPage(items, next);
+    }
+
+    @GetMapping("/projects/changes")
+    ProjectChanges getProjectChanges(@RequestParam(required = false) String since) {
+        long now = System.currentTimeMillis();
+        // The next token starts a little in the past so changes committed late by slow transactions are not missed.
+        String token = new ProjectSyncToken(new Date(now - changesOverlapInMilliseconds)).encode();
+
+        Date after = since == null ? null : ProjectSyncToken.decode(since).getSince();
+        if (after == null || after.getTime() < now - TimeUnit.DAYS.toMillis(tombstoneRetentionInDays)) {
+            return new ProjectChanges(repository.findAllByOrderByLastModifiedDesc(), Collections.emptyList(), true, token);
+        }
+
+        List<Project> changed = repository.findChangedSince(after);
+        List<Long> deleted = tombstoneRepository.findProjectIdsDeletedSince(after);
+        return new ProjectChanges(changed, deleted, false, token);
     }
 
     @GetMapping("/project/{id}")
-    Project getProjectById(@PathVariable long id) {
-        return repository.findById(id)
-                .orElseThrow(() -> new ProjectNotFoundException(id));
+    ResponseEntity<Project> getProjectById(@PathVariable long id, @RequestParam(required = false) Set<String> include) {
+        boolean includeDetails = include != null && include.contains(DETAILED_DESCRIPTION_ATTRIBUTE);
+        Optional<Project> foundProject = includeDetails ? repository.findWithDetailsById(id) : repository.findById(id);
+        Project project = foundProject.orElseThrow(() -> new ProjectNotFoundException(id));
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+        if (project.getLastModified() != null) {
+            long lastModified = project.getLastModified().getTime();
+            String etag = id + "-" + lastModified + (includeDetails ? "-details" : "");
+            response.eTag(etag).lastModified(lastModified);
+        }
+        return response.body(project);
     }
 
     @PostMapping("/projects/create")
     Project createProject(@RequestBody Project project) {
-        return repository.save(project);
+        sourceResolver.resolveSources(Collections.singletonList(project));
+        Project createdProject = repository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(ProjectChangedEvent.Type.CREATED, createdProject.getId()));
+        return createdProject;
+    }
+
+    @PostMapping("/projects/batch")
+    List<ProjectBatchResult> createProjects(@RequestBody List<Project> projects) {
+        if (projects.size() > maxBatchSize) {
+            throw new BatchTooLargeException("projects", projects.size(), maxBatchSize);
+        }
+
+        ProjectBatchResult[] results = new ProjectBatchResult[projects.size()];
+        List<Project> validProjects = new ArrayList<>(projects.size());
+        List<Integer> validIndexes = new ArrayList<>(projects.size());
+
+        for (int i = 0; i < projects.size(); i++) {
+            String error = ProjectValidation.validateNewProject(projects.get(i));
+            if (error == null) {
+                validProjects.add(projects.get(i));
+                validIndexes.add(i);
+            } else {
+                results[i] = ProjectBatchResult.rejected(i, error);
+            }
+        }
+
+        sourceResolver.resolveSources(validProjects);
+        List<Project> createdProjects = validProjects.isEmpty() ? validProjects : repository.saveAll(validProjects);
+        for (int i = 0; i < createdProjects.size(); i++) {
+            long id = createdProjects.get(i).getId();
+            results[validIndexes.get(i)] = ProjectBatchResult.created(validIndexes.get(i), id);
+            eventPublisher.publishEvent(new ProjectChangedEvent(ProjectChangedEvent.Type.CREATED, id));
+        }
+
+        return Arrays.asList(results);
+    }
+
+    @PostMapping("/projects/import")
+    ResponseEntity<StreamingResponseBody> importProjects(InputStream body) {
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(outputStream -> projectImporter.importProjects(body, outputStream));
     }
 
     @PutMapping("/project/{id}/sources/add")
     Project addSourceToProject(@RequestBody Source source, @PathVariable long id) {
-        Project project = repository.findById(id)
+        Project project = repository.findUncachedById(id)
                 .orElseThrow(() -> new ProjectNotFoundException(id));
-        project.getSources().add(source);
-        return repository.save(project);
+        project.getSources().add(sourceResolver.getOrCreate(source));
+        project.setLastModified(new Date());
+        Project savedProject = repository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(ProjectChangedEvent.Type.UPDATED, id));
+        return savedProject;
     }
 
     @PutMapping("/project/{id}/sources/remove")
     Project removeSourceFromProject(@RequestBody Source source, @PathVariable long id) {
-        Project project = repository.findById(id)
+        Project project = repository.findUncachedById(id)
                 .orElseThrow(() -> new ProjectNotFoundException(id));
-        project.getSources().remove(source);
-        return repository.save(project);
+        project.getSources().removeIf(existing -> existing.getId() == source.getId()
+                || (source.getUrl() != null && source.getUrl().equals(existing.getUrl())));
+        project.setLastModified(new Date());
+        Project savedProject = repository.save(project);
+        eventPublisher.publishEvent(new ProjectChangedEvent(ProjectChangedEvent.Type.UPDATED, id));
+        return savedProject;
+    }
+
+    @PutMapping("/project/{id}/sources")
+    ProjectSourceChangeResult changeProjectSources(@RequestBody ProjectSourceChanges changes, @PathVariable long id) {
+        int size = changes.getAdd().size() + changes.getRemove().size();
+        if (size > maxBatchSize) {
+            throw new BatchTooLargeException("source changes", size, maxBatchSize);
+        }
+
+        ProjectSourceChangeResult result = sourceLinker.changeSources(id, changes);
+        if (!changes.hasNoChanges()) {
+            eventPublisher.publishEvent(new ProjectChangedEvent(ProjectChangedEvent.Type.UPDATED, id));
+        }
+        return result;
     }
 
     @DeleteMapping("/project/{id}/delete")
     void deleteProject(@PathVariable long id) {
-        Project project = repository.findById(id)
-                .orElseThrow(() -> new ProjectNotFoundException(id));
-        repository.delete(project);
+        projectDeleter.deleteProject(id);
+        eventPublisher.publishEvent(new ProjectChangedEvent(ProjectChangedEvent.Type.DELETED, id));
     }
 }
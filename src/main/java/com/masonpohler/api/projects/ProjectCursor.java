@@ -0,0 +1,38 @@
+package com.masonpohler.api.projects;
+
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+@Data
+class ProjectCursor {
+    private static final String SEPARATOR = ":";
+
+    private final Date lastModified;
+    private final long id;
+
+    static ProjectCursor after(Project project) {
+        return new ProjectCursor(project.getLastModified(), project.getId());
+    }
+
+    static ProjectCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR);
+            if (parts.length != 2) {
+                throw new InvalidCursorException(cursor);
+            }
+            return new ProjectCursor(new Date(Long.parseLong(parts[0])), Long.parseLong(parts[1]));
+
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+
+    String encode() {
+        String raw = lastModified.getTime() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
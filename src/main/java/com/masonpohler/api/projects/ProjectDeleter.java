@@ -0,0 +1,26 @@
+package com.masonpohler.api.projects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+
+@Component
+class ProjectDeleter {
+
+    @Autowired
+    private ProjectRepository repository;
+
+    @Autowired
+    private ProjectTombstoneRepository tombstoneRepository;
+
+    // The tombstone commits with the delete, so the changes feed cannot miss a deleted project
+    @Transactional
+    public void deleteProject(long id) {
+        Project project = repository.findUncachedById(id)
+                .orElseThrow(() -> new ProjectNotFoundException(id));
+        repository.delete(project);
+        tombstoneRepository.save(new ProjectTombstone(id, new Date()));
+    }
+}
@@ -0,0 +1,157 @@
+package com.masonpohler.api.projects;
+
+import com.masonpohler.api.source.SourceChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+class ProjectEventStream {
+    static final String PROJECT_EVENT_NAME = "project";
+    static final String SOURCE_EVENT_NAME = "source";
+
+    private final Set<ProjectStreamSubscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Evicted subscribers whose send is still blocked, each holding one sender thread; watchdog thread only
+    private final Set<ProjectStreamSubscriber> evictedWhileSending = new HashSet<>();
+    private final AtomicLong nextEventId = new AtomicLong(1);
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long timeoutInMilliseconds;
+    private final long sendTimeoutInNanoseconds;
+    private final ThreadPoolExecutor senders;
+    private final ScheduledExecutorService scheduler;
+
+    ProjectEventStream(@Value("${projects.stream.buffer-size:64}") int bufferSize,
+                       @Value("${projects.stream.max-subscribers:10000}") int maxSubscribers,
+                       @Value("${projects.stream.timeout-ms:1800000}") long timeoutInMilliseconds,
+                       @Value("${projects.stream.heartbeat-ms:30000}") long heartbeatInMilliseconds,
+                       @Value("${projects.stream.threads:2}") int threads,
+                       @Value("${projects.stream.send-timeout-ms:10000}") long sendTimeoutInMilliseconds) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutInMilliseconds = timeoutInMilliseconds;
+        this.sendTimeoutInNanoseconds = TimeUnit.MILLISECONDS.toNanos(sendTimeoutInMilliseconds);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "project-stream-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Heartbeats and the watchdog get their own thread, so blocked senders can not hold them up
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "project-stream-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (heartbeatInMilliseconds > 0) {
+            scheduler.scheduleAtFixedRate(() -> broadcast(ProjectStreamEvent.HEARTBEAT),
+                    heartbeatInMilliseconds, heartbeatInMilliseconds, TimeUnit.MILLISECONDS);
+        }
+        if (sendTimeoutInMilliseconds > 0) {
+            long period = Math.max(1, sendTimeoutInMilliseconds / 2);
+            scheduler.scheduleWithFixedDelay(this::evictStuckSubscribers, period, period, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    SseEmitter subscribe() {
+        return subscribe(new SseEmitter(timeoutInMilliseconds));
+    }
+
+    SseEmitter subscribe(SseEmitter emitter) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new TooManySubscribersException(maxSubscribers);
+        }
+
+        ProjectStreamSubscriber subscriber = new ProjectStreamSubscriber(emitter, bufferSize, senders);
+        Runnable unsubscribe = () -> {
+            subscribers.remove(subscriber);
+            subscriber.close();
+        };
+        emitter.onCompletion(unsubscribe);
+        emitter.onTimeout(unsubscribe);
+        emitter.onError(error -> unsubscribe.run());
+        subscribers.add(subscriber);
+        return emitter;
+    }
+
+    int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @EventListener
+    void onProjectChanged(ProjectChangedEvent event) {
+        broadcast(createEvent(PROJECT_EVENT_NAME, event.getType().name(), event.getProjectId()));
+    }
+
+    @EventListener
+    void onSourceChanged(SourceChangedEvent event) {
+        broadcast(createEvent(SOURCE_EVENT_NAME, event.getType().name(), event.getSourceId()));
+    }
+
+    // A send blocked on a client that stopped reading only fails once the container's write
+    // timeout passes. Its subscriber is dropped now and a sender thread is added in its place,
+    // so the other subscribers keep receiving events. The emitter is not completed here, because
+    // that waits for the blocked send; the send completes it when it fails.
+    void evictStuckSubscribers() {
+        evictedWhileSending.removeIf(subscriber -> {
+            if (subscriber.isSending()) {
+                return false;
+            }
+            resizeSenders(-1);
+            return true;
+        });
+
+        long now = System.nanoTime();
+        for (ProjectStreamSubscriber subscriber : subscribers) {
+            if (subscriber.isSendOverdue(now, sendTimeoutInNanoseconds)) {
+                subscribers.remove(subscriber);
+                subscriber.close();
+                evictedWhileSending.add(subscriber);
+                resizeSenders(1);
+            }
+        }
+    }
+
+    private void resizeSenders(int change) {
+        int size = senders.getCorePoolSize() + change;
+        if (change > 0) {
+            senders.setMaximumPoolSize(size);
+            senders.setCorePoolSize(size);
+        } else {
+            senders.setCorePoolSize(size);
+            senders.setMaximumPoolSize(size);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.getEmitter().complete());
+    }
+
+    private ProjectStreamEvent createEvent(String name, String type, long id) {
+        String data = "{\"type\":\"" + type + "\",\"id\":" + id + "}";
+        return new ProjectStreamEvent(nextEventId.getAndIncrement(), name, data);
+    }
+
+    private void broadcast(ProjectStreamEvent event) {
+        for (ProjectStreamSubscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+}
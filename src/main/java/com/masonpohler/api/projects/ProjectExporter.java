@@ -0,0 +1,130 @@
+package com.masonpohler.api.projects;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+@Component
+class ProjectExporter {
+    private static final String EXPORT_QUERY = "SELECT p FROM Project p FETCH ALL PROPERTIES ORDER BY p.id";
+    private static final String SOURCES_QUERY = "SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.sources WHERE p IN :projects";
+    private static final char LINE_SEPARATOR = '\n';
+    private static final String CURSOR_FETCH_PROPERTY = "useCursorFetch";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSourceProperties dataSourceProperties;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${projects.export.fetch-size:500}")
+    private int fetchSize;
+
+    private DriverManagerDataSource exportDataSource;
+
+    // The export streams projects through a server-side cursor while loading their sources on the same
+    // connection. Cursor fetch makes Connector/J server-prepare every statement, so only the export's own
+    // connection turns it on rather than every connection in the pool.
+    @PostConstruct
+    void createExportDataSource() {
+        Properties connectionProperties = new Properties();
+        connectionProperties.setProperty(CURSOR_FETCH_PROPERTY, Boolean.TRUE.toString());
+
+        exportDataSource = new DriverManagerDataSource(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+        exportDataSource.setDriverClassName(dataSourceProperties.determineDriverClassName());
+        exportDataSource.setConnectionProperties(connectionProperties);
+    }
+
+    public void export(OutputStream outputStream) throws IOException {
+        try (Connection connection = openExportConnection()) {
+            try (Session session = entityManagerFactory.unwrap(SessionFactory.class)
+                    .withOptions()
+                    .connection(connection)
+                    .openSession()) {
+                export(session, outputStream);
+            }
+            connection.commit();
+        } catch (SQLException e) {
+            throw new CannotGetJdbcConnectionException("Failed to end the export transaction", e);
+        }
+    }
+
+    private Connection openExportConnection() {
+        try {
+            Connection connection = exportDataSource.getConnection();
+            // One read-only transaction, so every chunk's sources are read from the same snapshot as the cursor
+            connection.setReadOnly(true);
+            connection.setAutoCommit(false);
+            return connection;
+        } catch (SQLException e) {
+            throw new CannotGetJdbcConnectionException("Failed to open the export connection", e);
+        }
+    }
+
+    private void export(Session session, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        try (Stream<Project> projects = session.createQuery(EXPORT_QUERY, Project.class)
+                .setFetchSize(fetchSize)
+                .setReadOnly(true)
+                .stream()) {
+
+            List<Project> chunk = new ArrayList<>(fetchSize);
+            Iterator<Project> iterator = projects.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == fetchSize) {
+                    writeChunk(session, generator, chunk);
+                }
+            }
+            writeChunk(session, generator, chunk);
+        }
+
+        generator.close();
+    }
+
+    private void writeChunk(Session session, JsonGenerator generator, List<Project> chunk) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // Initializes the sources of the managed chunk in one query, whatever the chunk size
+        session.createQuery(SOURCES_QUERY, Project.class)
+                .setParameter("projects", chunk)
+                .setReadOnly(true)
+                .getResultList();
+
+        for (Project project : chunk) {
+            objectMapper.writeValue(generator, project);
+            generator.writeRaw(LINE_SEPARATOR);
+        }
+        generator.flush();
+
+        chunk.clear();
+        session.clear();
+    }
+}
@@ -0,0 +1,32 @@
+package com.masonpohler.api.projects;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class ProjectImportStatus {
+    enum Type {
+        ERROR,
+        PROGRESS,
+        COMPLETE
+    }
+
+    private final Type type;
+    private final Long line;
+    private final String error;
+    private final Long imported;
+    private final Long rejected;
+
+    static ProjectImportStatus error(long line, String error) {
+        return new ProjectImportStatus(Type.ERROR, line, error, null, null);
+    }
+
+    static ProjectImportStatus progress(long line, long imported, long rejected) {
+        return new ProjectImportStatus(Type.PROGRESS, line, null, imported, rejected);
+    }
+
+    static ProjectImportStatus complete(long line, long imported, long rejected) {
+        return new ProjectImportStatus(Type.COMPLETE, line, null, imported, rejected);
+    }
+}
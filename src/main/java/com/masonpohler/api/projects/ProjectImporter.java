@@ -0,0 +1,154 @@
+package com.masonpohler.api.projects;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedRuntimeException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+class ProjectImporter {
+    private static final char LINE_SEPARATOR = '\n';
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private SourceResolver sourceResolver;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${projects.import.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${projects.import.max-line-length:1048576}")
+    private int maxLineLength;
+
+    void importProjects(InputStream inputStream, OutputStream outputStream) throws IOException {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        ObjectReader projectReader = objectMapper.readerFor(Project.class);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        BoundedLineReader reader = new BoundedLineReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8), maxLineLength);
+
+        List<Project> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+        long lineNumber = 0;
+        long imported = 0;
+        long rejected = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (reader.isTooLong()) {
+                write(generator, ProjectImportStatus.error(lineNumber, "Line is longer than " + maxLineLength + " characters"));
+                rejected++;
+                continue;
+            }
+            if (line.trim().isEmpty()) {
+                continue;
+            }
+
+            String error;
+            Project project = null;
+            try {
+                project = projectReader.readValue(line);
+                if (project != null) {
+                    project.setId(0);
+                }
+                error = ProjectValidation.validateNewProject(project);
+            } catch (JsonProcessingException e) {
+                error = e.getOriginalMessage();
+            }
+
+            if (error != null) {
+                write(generator, ProjectImportStatus.error(lineNumber, error));
+                rejected++;
+                continue;
+            }
+
+            chunk.add(project);
+            chunkLines.add(lineNumber);
+            if (chunk.size() == chunkSize) {
+                int saved = commitChunk(transactionTemplate, generator, chunk, chunkLines);
+                imported += saved;
+                rejected += chunkLines.size() - saved;
+                chunk.clear();
+                chunkLines.clear();
+                write(generator, ProjectImportStatus.progress(lineNumber, imported, rejected));
+                generator.flush();
+            }
+        }
+
+        int saved = commitChunk(transactionTemplate, generator, chunk, chunkLines);
+        imported += saved;
+        rejected += chunkLines.size() - saved;
+        write(generator, ProjectImportStatus.complete(lineNumber, imported, rejected));
+        generator.close();
+    }
+
+    private int commitChunk(TransactionTemplate transactionTemplate, JsonGenerator generator, List<Project> chunk, List<Long> chunkLines) throws IOException {
+        if (chunk.isEmpty()) {
+            return 0;
+        }
+
+        List<Project> savedProjects;
+        try {
+            savedProjects = transactionTemplate.execute(status -> saveChunk(chunk));
+        } catch (NestedRuntimeException e) {
+            String error = "Could not save chunk: " + e.getMostSpecificCause().getMessage();
+            for (long chunkLine : chunkLines) {
+                write(generator, ProjectImportStatus.error(chunkLine, error));
+            }
+            return 0;
+        } finally {
+            // The chunk transaction joins the request's open-in-view EntityManager, which outlives it
+            entityManager.clear();
+        }
+
+        for (Project project : savedProjects) {
+            eventPublisher.publishEvent(new ProjectChangedEvent(ProjectChangedEvent.Type.CREATED, project.getId()));
+        }
+        return savedProjects.size();
+    }
+
+    private List<Project> saveChunk(List<Project> chunk) {
+        for (Project project : chunk) {
+            project.getSources().forEach(source -> source.setId(0));
+        }
+        sourceResolver.resolveSources(chunk);
+
+        return projectRepository.saveAll(chunk);
+    }
+
+    private void write(JsonGenerator generator, ProjectImportStatus status) throws IOException {
+        objectMapper.writeValue(generator, status);
+        generator.writeRaw(LINE_SEPARATOR);
+    }
+}
@@ -0,0 +1,46 @@
+package com.masonpohler.api.projects;
+
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.GZIPOutputStream;
+
+@Getter
+class ProjectListSnapshot {
+    private final byte[] json;
+    private final byte[] gzippedJson;
+    private final String etag;
+    private final String gzippedEtag;
+    private final long lastModified;
+    private final long createdAt;
+
+    ProjectListSnapshot(byte[] json, long lastModified) {
+        this(json, etagOf(json), lastModified);
+    }
+
+    ProjectListSnapshot(byte[] json, String etag, long lastModified) {
+        this.json = json;
+        this.gzippedJson = gzip(json);
+        this.etag = etag;
+        this.gzippedEtag = etag + "-gzip";
+        this.lastModified = lastModified;
+        this.createdAt = System.currentTimeMillis();
+    }
+
+    static String etagOf(byte[] json) {
+        return DigestUtils.md5DigestAsHex(json);
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(bytes.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(buffer)) {
+            gzip.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return buffer.toByteArray();
+    }
+}
@@ -0,0 +1,77 @@
+package com.masonpohler.api.projects;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masonpohler.api.cache.LastModifiedTracker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+
+@Component
+class ProjectListSnapshotCache {
+    private final CoalescingRebuilder rebuilder = new CoalescingRebuilder("project-list-snapshot", this::rebuild);
+    private final LastModifiedTracker lastModifiedTracker = new LastModifiedTracker();
+
+    @Autowired
+    private ProjectRepository repository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${projects.snapshot.max-age-ms:300000}")
+    private long maxAgeInMilliseconds;
+
+    private volatile ProjectListSnapshot snapshot;
+
+    ProjectListSnapshot getSnapshot() {
+        ProjectListSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                return current != null ? current : rebuild();
+            }
+        }
+
+        if (System.currentTimeMillis() - current.getCreatedAt() > maxAgeInMilliseconds) {
+            rebuilder.request();
+        }
+        return current;
+    }
+
+    @EventListener
+    void onProjectChanged(ProjectChangedEvent event) {
+        rebuilder.request();
+    }
+
+    synchronized ProjectListSnapshot rebuild() {
+        try {
+            List<Project> projects = repository.findAllByOrderByLastModifiedDesc();
+            byte[] json = objectMapper.writeValueAsBytes(projects);
+            String etag = ProjectListSnapshot.etagOf(json);
+            snapshot = new ProjectListSnapshot(json, etag, lastModifiedTracker.update(etag, findLatestModification(projects)));
+            return snapshot;
+
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Project list could not be serialized", e);
+        }
+    }
+
+    private long findLatestModification(List<Project> projects) {
+        long latest = 0;
+        for (Project project : projects) {
+            if (project.getLastModified() != null) {
+                latest = Math.max(latest, project.getLastModified().getTime());
+            }
+        }
+        return latest;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdown();
+    }
+}
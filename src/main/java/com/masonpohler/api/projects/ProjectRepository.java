@@ -1,9 +1,108 @@
 package com.masonpohler.api.projects;
 
+import com.masonpohler.api.cache.CacheNames;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
+import java.util.Optional;
 
 interface ProjectRepository extends JpaRepository<Project, Long> {
+
+    @Override
+    @EntityGraph(attributePaths = "sources")
+    @Cacheable(cacheNames = CacheNames.PROJECT, unless = "#result == null")
+    Optional<Project> findById(Long id);
+
+    @Query("SELECT p FROM Project p FETCH ALL PROPERTIES LEFT JOIN FETCH p.sources WHERE p.id = :id")
+    @Cacheable(cacheNames = CacheNames.PROJECT_DETAILS, unless = "#result == null")
+    Optional<Project> findWithDetailsById(@Param("id") long id);
+
+    @Query("SELECT p FROM Project p FETCH ALL PROPERTIES LEFT JOIN FETCH p.sources WHERE p.id = :id")
+    Optional<Project> findUncachedById(@Param("id") long id);
+
+    @Query("SELECT DISTINCT p FROM Project p FETCH ALL PROPERTIES LEFT JOIN FETCH p.sources WHERE p.id IN :ids")
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    List<Project> findWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT DISTINCT p FROM Project p FETCH ALL PROPERTIES LEFT JOIN FETCH p.sources ORDER BY p.lastModified DESC")
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    @Cacheable(CacheNames.PROJECTS)
     List<Project> findAllByOrderByLastModifiedDesc();
+
+    @Query("SELECT DISTINCT p FROM Project p FETCH ALL PROPERTIES LEFT JOIN FETCH p.sources " +
+            "WHERE p.lastModified >= :since ORDER BY p.lastModified, p.id")
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.QueryHints.HINT_PASS_DISTINCT_THROUGH, value = "false"))
+    List<Project> findChangedSince(@Param("since") Date since);
+
+    @Cacheable(CacheNames.PROJECT_SUMMARIES)
+    List<ProjectSummary> findAllProjectedByOrderByLastModifiedDesc();
+
+    @Query("SELECT p FROM Project p ORDER BY p.lastModified DESC, p.id DESC")
+    List<Project> findFirstPage(Pageable pageable);
+
+    @Query("SELECT p FROM Project p " +
+            "WHERE p.lastModified < :lastModified OR (p.lastModified = :lastModified AND p.id < :id) " +
+            "ORDER BY p.lastModified DESC, p.id DESC")
+    List<Project> findPageAfter(@Param("lastModified") Date lastModified, @Param("id") long id, Pageable pageable);
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = {CacheNames.PROJECT, CacheNames.PROJECT_DETAILS}, key = "#p0.id"),
+            @CacheEvict(cacheNames = {CacheNames.PROJECTS, CacheNames.PROJECT_SUMMARIES, CacheNames.SOURCES}, allEntries = true)
+    })
+    <S extends Project> S save(S project);
+
+    @Override
+    @CacheEvict(cacheNames = {
+            CacheNames.PROJECT,
+            CacheNames.PROJECT_DETAILS,
+            CacheNames.PROJECTS,
+            CacheNames.PROJECT_SUMMARIES,
+            CacheNames.SOURCES
+    }, allEntries = true)
+    <S extends Project> List<S> saveAll(Iterable<S> projects);
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = {CacheNames.PROJECT, CacheNames.PROJECT_DETAILS}, key = "#p0.id"),
+            @CacheEvict(cacheNames = {CacheNames.PROJECTS, CacheNames.PROJECT_SUMMARIES}, allEntries = true)
+    })
+    void delete(Project project);
+
+    @Modifying
+    @Query("UPDATE Project p SET p.lastModified = :lastModified WHERE p.id = :id")
+    int updateLastModified(@Param("id") long id, @Param("lastModified") Date lastModified);
+
+    @Modifying
+    @Query(value = "INSERT INTO project_source (project_id, source_id) " +
+            "SELECT :projectId, s.id FROM source s " +
+            "WHERE s.id IN :sourceIds AND NOT EXISTS (" +
+            "SELECT 1 FROM project_source ps WHERE ps.project_id = :projectId AND ps.source_id = s.id)",
+            nativeQuery = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = {CacheNames.PROJECT, CacheNames.PROJECT_DETAILS}, key = "#p0"),
+            @CacheEvict(cacheNames = {CacheNames.PROJECTS, CacheNames.PROJECT_SUMMARIES}, allEntries = true)
+    })
+    int attachSources(@Param("projectId") long projectId, @Param("sourceIds") Collection<Long> sourceIds);
+
+    @Modifying
+    @Query(value = "DELETE FROM project_source WHERE project_id = :projectId AND source_id IN :sourceIds",
+            nativeQuery = true)
+    @Caching(evict = {
+            @CacheEvict(cacheNames = {CacheNames.PROJECT, CacheNames.PROJECT_DETAILS}, key = "#p0"),
+            @CacheEvict(cacheNames = {CacheNames.PROJECTS, CacheNames.PROJECT_SUMMARIES}, allEntries = true)
+    })
+    int detachSources(@Param("projectId") long projectId, @Param("sourceIds") Collection<Long> sourceIds);
 }
@@ -0,0 +1,244 @@
+package com.masonpohler.api.projects;
+
+import com.masonpohler.api.source.Source;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+class ProjectSearchIndex {
+    private static final int NAME_WEIGHT = 4;
+    private static final int DESCRIPTION_WEIGHT = 2;
+    private static final int SOURCE_NAME_WEIGHT = 2;
+    private static final int DETAILED_DESCRIPTION_WEIGHT = 1;
+    private static final int REFRESH_BATCH_SIZE = 500;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, IndexedProject> documents = new HashMap<>();
+    private final CoalescingRebuilder rebuilder = new CoalescingRebuilder("project-search-index", this::rebuild);
+    private final CoalescingRebuilder refresher = new CoalescingRebuilder("project-search-refresh", this::refreshChanged);
+    // Ids of projects changed since they were last loaded, guarded by itself
+    private final Set<Long> changedIds = new HashSet<>();
+    private volatile long builtAt;
+
+    @Autowired
+    private ProjectRepository repository;
+
+    @Value("${projects.search.max-age-ms:300000}")
+    private long maxAgeInMilliseconds;
+
+    @EventListener(ApplicationReadyEvent.class)
+    synchronized void rebuild() {
+        List<Project> projects = repository.findAllByOrderByLastModifiedDesc();
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            for (Project project : projects) {
+                add(project);
+            }
+            builtAt = System.currentTimeMillis();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Events only carry ids, so changed projects are loaded later in one query on the refresh thread
+    // rather than one by one on the thread that published them. A change seen while a rebuild is
+    // reading is refreshed after that rebuild, since both hold this index's monitor.
+    @EventListener
+    void onProjectChanged(ProjectChangedEvent event) {
+        if (event.getType() == ProjectChangedEvent.Type.DELETED) {
+            remove(event.getProjectId());
+        }
+
+        synchronized (changedIds) {
+            changedIds.add(event.getProjectId());
+        }
+        refresher.request();
+    }
+
+    synchronized void refreshChanged() {
+        List<Long> ids;
+        synchronized (changedIds) {
+            ids = new ArrayList<>(changedIds);
+            changedIds.clear();
+        }
+
+        for (int from = 0; from < ids.size(); from += REFRESH_BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + REFRESH_BATCH_SIZE, ids.size()));
+            List<Project> projects;
+            try {
+                projects = repository.findWithDetailsByIdIn(batch);
+            } catch (RuntimeException e) {
+                synchronized (changedIds) {
+                    changedIds.addAll(ids.subList(from, ids.size()));
+                }
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                for (long projectId : batch) {
+                    removeDocument(projectId);
+                }
+                for (Project project : projects) {
+                    add(project);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    void remove(long projectId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(projectId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    ProjectSearchPage search(String query, int offset, int limit) {
+        if (System.currentTimeMillis() - builtAt > maxAgeInMilliseconds) {
+            rebuilder.request();
+        }
+
+        Set<String> queryTerms = new LinkedHashSet<>(tokenize(query));
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = new HashMap<>();
+            for (String term : queryTerms) {
+                Map<Long, Integer> posting = postings.get(term);
+                if (posting == null) {
+                    continue;
+                }
+
+                double inverseDocumentFrequency = Math.log(1.0 + (double) documents.size() / posting.size());
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    scores.merge(entry.getKey(), entry.getValue() * inverseDocumentFrequency, Double::sum);
+                }
+            }
+
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+            ranked.sort((first, second) -> {
+                int byScore = Double.compare(second.getValue(), first.getValue());
+                return byScore != 0 ? byScore : Long.compare(first.getKey(), second.getKey());
+            });
+
+            List<ProjectSearchResult> items = new ArrayList<>();
+            for (int i = offset; i < ranked.size() && i < offset + limit; i++) {
+                Map.Entry<Long, Double> entry = ranked.get(i);
+                items.add(documents.get(entry.getKey()).toResult(entry.getValue()));
+            }
+            return new ProjectSearchPage(items, ranked.size());
+
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Project project) {
+        Map<String, Integer> termWeights = new HashMap<>();
+        addTerms(termWeights, project.getName(), NAME_WEIGHT);
+        addTerms(termWeights, project.getDescription(), DESCRIPTION_WEIGHT);
+        addTerms(termWeights, project.getDetailedDescription(), DETAILED_DESCRIPTION_WEIGHT);
+        for (Source source : project.getSources()) {
+            addTerms(termWeights, source.getName(), SOURCE_NAME_WEIGHT);
+        }
+
+        for (Map.Entry<String, Integer> entry : termWeights.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new HashMap<>()).put(project.getId(), entry.getValue());
+        }
+        documents.put(project.getId(), new IndexedProject(project, termWeights.keySet()));
+    }
+
+    private void removeDocument(long projectId) {
+        IndexedProject document = documents.remove(projectId);
+        if (document == null) {
+            return;
+        }
+
+        for (String term : document.terms) {
+            Map<Long, Integer> posting = postings.get(term);
+            posting.remove(projectId);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+    }
+
+    private void addTerms(Map<String, Integer> termWeights, String text, int weight) {
+        for (String term : tokenize(text)) {
+            termWeights.merge(term, weight, Integer::sum);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdown();
+        refresher.shutdown();
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean letterOrDigit = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (letterOrDigit && start < 0) {
+                start = i;
+            } else if (!letterOrDigit && start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static class IndexedProject {
+        private final long id;
+        private final String name;
+        private final String description;
+        private final String previewURL;
+        private final String liveURL;
+        private final boolean large;
+        private final Set<String> terms;
+
+        IndexedProject(Project project, Set<String> terms) {
+            this.id = project.getId();
+            this.name = project.getName();
+            this.description = project.getDescription();
+            this.previewURL = project.getPreviewURL();
+            this.liveURL = project.getLiveURL();
+            this.large = project.isLarge();
+            this.terms = terms;
+        }
+
+        ProjectSearchResult toResult(double score) {
+            return new ProjectSearchResult(id, name, description, previewURL, liveURL, large, score);
+        }
+    }
+}
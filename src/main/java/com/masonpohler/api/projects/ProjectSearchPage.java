@@ -0,0 +1,13 @@
+package com.masonpohler.api.projects;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+class ProjectSearchPage {
+    private List<ProjectSearchResult> items;
+    private int total;
+}
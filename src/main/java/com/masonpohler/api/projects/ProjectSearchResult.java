@@ -0,0 +1,14 @@
+package com.masonpohler.api.projects;
+
+import lombok.Data;
+
+@Data
+class ProjectSearchResult {
+    private final long id;
+    private final String name;
+    private final String description;
+    private final String previewURL;
+    private final String liveURL;
+    private final boolean large;
+    private final double score;
+}
@@ -0,0 +1,9 @@
+package com.masonpohler.api.projects;
+
+import lombok.Data;
+
+@Data
+class ProjectSourceChangeResult {
+    private final int added;
+    private final int removed;
+}
@@ -0,0 +1,25 @@
+package com.masonpohler.api.projects;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+class ProjectSourceChanges {
+    private List<Long> add = new ArrayList<>();
+    private List<Long> remove = new ArrayList<>();
+
+    // A null list in the request means nothing to change, the same as leaving it out
+    public void setAdd(List<Long> add) {
+        this.add = add == null ? new ArrayList<>() : add;
+    }
+
+    public void setRemove(List<Long> remove) {
+        this.remove = remove == null ? new ArrayList<>() : remove;
+    }
+
+    boolean hasNoChanges() {
+        return add.isEmpty() && remove.isEmpty();
+    }
+}
@@ -0,0 +1,37 @@
+package com.masonpohler.api.projects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+@Component
+class ProjectSourceLinker {
+
+    @Autowired
+    private ProjectRepository repository;
+
+    @Transactional
+    public ProjectSourceChangeResult changeSources(long projectId, ProjectSourceChanges changes) {
+        if (changes.hasNoChanges()) {
+            if (!repository.existsById(projectId)) {
+                throw new ProjectNotFoundException(projectId);
+            }
+            return new ProjectSourceChangeResult(0, 0);
+        }
+
+        // Updating the project row first locks it, so concurrent edits of one project run one after another.
+        if (repository.updateLastModified(projectId, new Date()) == 0) {
+            throw new ProjectNotFoundException(projectId);
+        }
+
+        Set<Long> remove = new LinkedHashSet<>(changes.getRemove());
+        Set<Long> add = new LinkedHashSet<>(changes.getAdd());
+        int removed = remove.isEmpty() ? 0 : repository.detachSources(projectId, remove);
+        int added = add.isEmpty() ? 0 : repository.attachSources(projectId, add);
+        return new ProjectSourceChangeResult(added, removed);
+    }
+}
@@ -0,0 +1,16 @@
+package com.masonpohler.api.projects;
+
+import lombok.Data;
+
+@Data
+class ProjectStreamEvent {
+    static final ProjectStreamEvent HEARTBEAT = new ProjectStreamEvent(0, null, null);
+
+    private final long id;
+    private final String name;
+    private final String data;
+
+    boolean isHeartbeat() {
+        return name == null;
+    }
+}
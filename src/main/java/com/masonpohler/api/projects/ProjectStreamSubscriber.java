@@ -0,0 +1,110 @@
+package com.masonpohler.api.projects;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+
+class ProjectStreamSubscriber {
+    static final String DROPPED_EVENT_NAME = "dropped";
+    private static final String HEARTBEAT_COMMENT = "heartbeat";
+
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Executor executor;
+    private final Deque<ProjectStreamEvent> buffer = new ArrayDeque<>();
+
+    private int dropped;
+    private boolean draining;
+    private boolean closed;
+
+    // Read by ProjectEventStream's watchdog without locking, since a blocked send never releases it
+    private volatile boolean sending;
+    private volatile long sendStartedAt;
+
+    ProjectStreamSubscriber(SseEmitter emitter, int capacity, Executor executor) {
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.executor = executor;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    void offer(ProjectStreamEvent event) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (buffer.size() == capacity) {
+                buffer.pollFirst();
+                dropped++;
+            }
+            buffer.addLast(event);
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        executor.execute(this::drain);
+    }
+
+    boolean isSending() {
+        return sending;
+    }
+
+    boolean isSendOverdue(long now, long timeoutInNanoseconds) {
+        return sending && now - sendStartedAt > timeoutInNanoseconds;
+    }
+
+    synchronized void close() {
+        closed = true;
+        buffer.clear();
+    }
+
+    private void drain() {
+        while (true) {
+            ProjectStreamEvent event;
+            int droppedSinceLastSend;
+            synchronized (this) {
+                event = buffer.pollFirst();
+                droppedSinceLastSend = dropped;
+                dropped = 0;
+                if (closed || (event == null && droppedSinceLastSend == 0)) {
+                    draining = false;
+                    return;
+                }
+            }
+
+            sendStartedAt = System.nanoTime();
+            sending = true;
+            try {
+                if (droppedSinceLastSend > 0) {
+                    emitter.send(SseEmitter.event().name(DROPPED_EVENT_NAME).data(droppedSinceLastSend));
+                }
+                if (event != null) {
+                    send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                close();
+                emitter.completeWithError(e);
+            } finally {
+                sending = false;
+            }
+        }
+    }
+
+    private void send(ProjectStreamEvent event) throws IOException {
+        if (event.isHeartbeat()) {
+            emitter.send(SseEmitter.event().comment(HEARTBEAT_COMMENT));
+        } else {
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(event.getId()))
+                    .name(event.getName())
+                    .data(event.getData()));
+        }
+    }
+}
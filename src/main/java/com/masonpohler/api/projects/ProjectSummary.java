@@ -0,0 +1,10 @@
+package com.masonpohler.api.projects;
+
+interface ProjectSummary {
+    long getId();
+    String getName();
+    String getDescription();
+    String getPreviewURL();
+    String getLiveURL();
+    boolean isLarge();
+}
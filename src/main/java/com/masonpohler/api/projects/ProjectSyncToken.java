@@ -0,0 +1,27 @@
+package com.masonpohler.api.projects;
+
+import lombok.Data;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Date;
+
+@Data
+class ProjectSyncToken {
+    private final Date since;
+
+    static ProjectSyncToken decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return new ProjectSyncToken(new Date(Long.parseLong(decoded)));
+
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSyncTokenException(token);
+        }
+    }
+
+    String encode() {
+        String raw = Long.toString(since.getTime());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,24 @@
+package com.masonpohler.api.projects;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import java.util.Date;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(indexes = @Index(name = "idx_project_tombstone_deleted_at", columnList = "deletedAt"))
+class ProjectTombstone {
+
+    @Id
+    private long projectId;
+
+    private Date deletedAt;
+}
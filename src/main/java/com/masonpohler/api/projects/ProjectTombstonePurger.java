@@ -0,0 +1,25 @@
+package com.masonpohler.api.projects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@Component
+class ProjectTombstonePurger {
+
+    @Autowired
+    private ProjectTombstoneRepository tombstoneRepository;
+
+    @Value("${projects.changes.tombstone-retention-days:30}")
+    private int tombstoneRetentionInDays;
+
+    // Change tokens older than the retention period are refused, so their tombstones are no longer needed
+    @Scheduled(fixedDelayString = "${projects.changes.tombstone-purge-interval-ms:3600000}")
+    void purge() {
+        tombstoneRepository.deleteDeletedBefore(new Date(System.currentTimeMillis() - TimeUnit.DAYS.toMillis(tombstoneRetentionInDays)));
+    }
+}
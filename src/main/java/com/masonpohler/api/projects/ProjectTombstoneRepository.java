@@ -0,0 +1,21 @@
+package com.masonpohler.api.projects;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.List;
+
+interface ProjectTombstoneRepository extends JpaRepository<ProjectTombstone, Long> {
+
+    @Query("SELECT t.projectId FROM ProjectTombstone t WHERE t.deletedAt >= :since")
+    List<Long> findProjectIdsDeletedSince(@Param("since") Date since);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ProjectTombstone t WHERE t.deletedAt < :before")
+    int deleteDeletedBefore(@Param("before") Date before);
+}
@@ -0,0 +1,20 @@
+package com.masonpohler.api.projects;
+
+final class ProjectValidation {
+
+    private ProjectValidation() {
+    }
+
+    static String validateNewProject(Project project) {
+        if (project == null) {
+            return "Project must not be null";
+        }
+        if (project.getId() != 0) {
+            return "Project id must not be set";
+        }
+        if (project.getName() == null || project.getName().trim().isEmpty()) {
+            return "Project name must not be empty";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,68 @@
+package com.masonpohler.api.projects;
+
+import com.masonpohler.api.source.Source;
+import com.masonpohler.api.source.SourceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Component
+class SourceResolver {
+
+    @Autowired
+    private SourceRepository sourceRepository;
+
+    void resolveSources(Collection<Project> projects) {
+        Set<String> urls = new HashSet<>();
+        for (Project project : projects) {
+            for (Source source : project.getSources()) {
+                if (isUnresolved(source)) {
+                    urls.add(source.getUrl());
+                }
+            }
+        }
+
+        // One query looks up every url of the batch. Keys compare like the url column's
+        // case-insensitive collation, so a match found by the database is also found here.
+        Map<String, Source> sourcesByUrl = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        if (!urls.isEmpty()) {
+            for (Source existingSource : sourceRepository.findByUrlIn(urls)) {
+                sourcesByUrl.put(existingSource.getUrl(), existingSource);
+            }
+        }
+
+        for (Project project : projects) {
+            Set<Source> sources = new HashSet<>();
+            for (Source source : project.getSources()) {
+                sources.add(isUnresolved(source) ? sourcesByUrl.computeIfAbsent(source.getUrl(), url -> source) : source);
+            }
+            project.setSources(sources);
+        }
+    }
+
+    Source getOrCreate(Source source) {
+        if (!isUnresolved(source)) {
+            return source;
+        }
+
+        return sourceRepository.findByUrl(source.getUrl()).orElseGet(() -> create(source));
+    }
+
+    private Source create(Source source) {
+        try {
+            return sourceRepository.save(source);
+        } catch (DataIntegrityViolationException e) {
+            return sourceRepository.findByUrl(source.getUrl()).orElseThrow(() -> e);
+        }
+    }
+
+    private boolean isUnresolved(Source source) {
+        return source.getId() == 0 && source.getUrl() != null;
+    }
+}
@@ -0,0 +1,15 @@
+package com.masonpohler.api.projects;
+
+import lombok.Data;
+
+@Data
+class Suggestion {
+    enum Type {
+        PROJECT,
+        SOURCE
+    }
+
+    private final Type type;
+    private final long id;
+    private final String name;
+}
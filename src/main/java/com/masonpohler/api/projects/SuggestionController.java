@@ -0,0 +1,21 @@
+package com.masonpohler.api.projects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+class SuggestionController {
+    private static final int MAX_SUGGESTIONS = 50;
+
+    @Autowired
+    private SuggestionIndex suggestionIndex;
+
+    @GetMapping("/suggest")
+    List<Suggestion> suggest(@RequestParam String prefix, @RequestParam(defaultValue = "10") int limit) {
+        return suggestionIndex.suggest(prefix, Math.max(1, Math.min(limit, MAX_SUGGESTIONS)));
+    }
+}
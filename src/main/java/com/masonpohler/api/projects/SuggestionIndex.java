@@ -0,0 +1,135 @@
+package com.masonpohler.api.projects;
+
+import com.masonpohler.api.source.Source;
+import com.masonpohler.api.source.SourceChangedEvent;
+import com.masonpohler.api.source.SourceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+@Component
+class SuggestionIndex {
+    private final CoalescingRebuilder rebuilder = new CoalescingRebuilder("suggestion-index", this::rebuild);
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private SourceRepository sourceRepository;
+
+    private volatile Entries entries = new Entries(new String[0], new Suggestion[0]);
+
+    List<Suggestion> suggest(String prefix, int limit) {
+        String key = prefix.trim().toLowerCase(Locale.ROOT);
+        if (key.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Entries current = entries;
+        List<Suggestion> suggestions = new ArrayList<>(limit);
+        for (int i = current.lowerBound(key); i < current.keys.length && suggestions.size() < limit; i++) {
+            if (!current.keys[i].startsWith(key)) {
+                break;
+            }
+            if (!suggestions.contains(current.suggestions[i])) {
+                suggestions.add(current.suggestions[i]);
+            }
+        }
+        return suggestions;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onApplicationReady() {
+        rebuilder.request();
+    }
+
+    @EventListener
+    void onProjectChanged(ProjectChangedEvent event) {
+        rebuilder.request();
+    }
+
+    @EventListener
+    void onSourceChanged(SourceChangedEvent event) {
+        rebuilder.request();
+    }
+
+    synchronized void rebuild() {
+        List<Entry> unsorted = new ArrayList<>();
+        for (ProjectSummary project : projectRepository.findAllProjectedByOrderByLastModifiedDesc()) {
+            addEntries(unsorted, new Suggestion(Suggestion.Type.PROJECT, project.getId(), project.getName()));
+        }
+        for (Source source : sourceRepository.findAll()) {
+            addEntries(unsorted, new Suggestion(Suggestion.Type.SOURCE, source.getId(), source.getName()));
+        }
+        unsorted.sort((first, second) -> first.key.compareTo(second.key));
+
+        String[] keys = new String[unsorted.size()];
+        Suggestion[] suggestions = new Suggestion[unsorted.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = unsorted.get(i).key;
+            suggestions[i] = unsorted.get(i).suggestion;
+        }
+        entries = new Entries(keys, suggestions);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        rebuilder.shutdown();
+    }
+
+    private void addEntries(List<Entry> entries, Suggestion suggestion) {
+        if (suggestion.getName() == null) {
+            return;
+        }
+
+        String name = suggestion.getName().toLowerCase(Locale.ROOT);
+        for (int i = 0; i < name.length(); i++) {
+            boolean wordStart = Character.isLetterOrDigit(name.charAt(i))
+                    && (i == 0 || !Character.isLetterOrDigit(name.charAt(i - 1)));
+            if (wordStart) {
+                entries.add(new Entry(name.substring(i), suggestion));
+            }
+        }
+    }
+
+    private static class Entry {
+        private final String key;
+        private final Suggestion suggestion;
+
+        Entry(String key, Suggestion suggestion) {
+            this.key = key;
+            this.suggestion = suggestion;
+        }
+    }
+
+    private static class Entries {
+        private final String[] keys;
+        private final Suggestion[] suggestions;
+
+        Entries(String[] keys, Suggestion[] suggestions) {
+            this.keys = keys;
+            this.suggestions = suggestions;
+        }
+
+        int lowerBound(String key) {
+            int low = 0;
+            int high = keys.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (keys[middle].compareTo(key) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.masonpohler.api.projects;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(code = HttpStatus.SERVICE_UNAVAILABLE)
+class TooManySubscribersException extends RuntimeException {
+
+    TooManySubscribersException(int maxSubscribers) {
+        super("The change stream already has the maximum of " + maxSubscribers + " subscribers");
+    }
+}
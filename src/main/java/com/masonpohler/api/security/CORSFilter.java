@@ -1,34 +1,84 @@
 package com.masonpohler.api.security;
 
-import com.masonpohler.api.environment.EnvironmentService;
+import com.masonpohler.api.environment.ConfigurationService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
 
-import javax.servlet.*;
+import javax.annotation.PostConstruct;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 @Component
-public class CORSFilter implements Filter {
-    private static final String APPLICATION_URL_VARIABLE_NAME = "APPLICATION_URL";
+public class CORSFilter extends OncePerRequestFilter {
+    private static final String ALLOWED_METHODS = "GET,POST,DELETE,PUT,OPTIONS";
+    private static final String ALLOWED_HEADERS = "*";
+
+    @Value("${cors.max-age:86400}")
+    private long maxAgeInSeconds;
+
+    @Autowired
+    private ConfigurationService configurationService;
 
     @Autowired
-    private EnvironmentService environmentService;
+    private MeterRegistry meterRegistry;
+
+    private Map<String, String> preflightHeaders;
+
+    @PostConstruct
+    void buildPreflightHeaders() {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put(HttpHeaders.ACCESS_CONTROL_ALLOW_METHODS, ALLOWED_METHODS);
+        headers.put(HttpHeaders.ACCESS_CONTROL_ALLOW_HEADERS, ALLOWED_HEADERS);
+        headers.put(HttpHeaders.ACCESS_CONTROL_MAX_AGE, Long.toString(maxAgeInSeconds));
+        preflightHeaders = Collections.unmodifiableMap(headers);
+    }
 
     @Override
-    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain) throws IOException, ServletException {
-        HttpServletRequest request = (HttpServletRequest) servletRequest;
-        HttpServletResponse response = (HttpServletResponse) servletResponse;
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String origin = request.getHeader(HttpHeaders.ORIGIN);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ORIGIN);
+
+        boolean allowedOrigin = origin != null && configurationService.getSnapshot().getAllowedOrigins().contains(origin);
+        if (allowedOrigin) {
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN, origin);
+            response.setHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_CREDENTIALS, "true");
+        }
 
-        String applicationURL = environmentService.getEnv(APPLICATION_URL_VARIABLE_NAME);
+        if (!isPreflight(request, origin)) {
+            sample.stop(meterRegistry.timer(SecurityMetrics.FILTER_TIMER, "filter", "cors", "outcome", "passed"));
+            filterChain.doFilter(request, response);
+            return;
+        }
 
-        response.setHeader("Access-Control-Allow-Origin", applicationURL);
-        response.setHeader("Access-Control-Allow-Methods", "GET,POST,DELETE,PUT,OPTIONS");
-        response.setHeader("Access-Control-Allow-Headers", "*");
-        response.setHeader("Access-Control-Allow-Credentials", "true");
-        response.setHeader("Access-Control-Max-Age", "180");
+        if (!allowedOrigin) {
+            response.setStatus(HttpServletResponse.SC_FORBIDDEN);
+            sample.stop(meterRegistry.timer(SecurityMetrics.FILTER_TIMER, "filter", "cors", "outcome", "rejected"));
+            return;
+        }
+
+        for (Map.Entry<String, String> header : preflightHeaders.entrySet()) {
+            response.setHeader(header.getKey(), header.getValue());
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        sample.stop(meterRegistry.timer(SecurityMetrics.FILTER_TIMER, "filter", "cors", "outcome", "preflight"));
+    }
 
-        filterChain.doFilter(request, response);
+    private boolean isPreflight(HttpServletRequest request, String origin) {
+        return origin != null
+                && HttpMethod.OPTIONS.matches(request.getMethod())
+                && request.getHeader(HttpHeaders.ACCESS_CONTROL_REQUEST_METHOD) != null;
     }
 }
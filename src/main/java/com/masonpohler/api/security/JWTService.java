@@ -1,22 +1,30 @@
 package com.masonpohler.api.security;
 
-import com.masonpohler.api.environment.EnvironmentService;
+import com.masonpohler.api.environment.ConfigurationService;
 import io.jsonwebtoken.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.security.Key;
 import java.util.Date;
 
 @Service
 class JWTService implements TokenService {
-    private static final String API_SECRET_ENVIRONMENT_VARIABLE_NAME = "API_SECRET";
     private static final String AUTHORITY_CLAIM = "authority";
 
     @Autowired
-    private EnvironmentService environmentService;
+    private ConfigurationService configurationService;
+
+    @Autowired
+    private ValidatedTokenCache validatedTokenCache;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
 
     public String createToken(String username, String authority, Date issuedAt, Date expiration) {
-        String apiSecret = environmentService.getEnv(API_SECRET_ENVIRONMENT_VARIABLE_NAME);
+        Key signingKey = configurationService.getSnapshot().getSigningKey();
 
         return Jwts.builder()
                 .setId("adminJWT")
@@ -24,31 +32,45 @@ class JWTService implements TokenService {
                 .claim(AUTHORITY_CLAIM, authority)
                 .setIssuedAt(issuedAt)
                 .setExpiration(expiration)
-                .signWith(SignatureAlgorithm.HS256, apiSecret.getBytes())
+                .signWith(SignatureAlgorithm.HS256, signingKey)
                 .compact();
     }
 
     public AuthenticatedUser validateToken(String token) throws TokenValidationException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "valid";
         try {
+            AuthenticatedUser cachedUser = validatedTokenCache.get(token);
+            if (cachedUser != null) {
+                result = "cached";
+                return cachedUser;
+            }
             return doValidation(token);
 
         } catch (ExpiredJwtException e) {
+            result = "expired";
             throw new ExpiredTokenException();
 
         } catch (UnsupportedJwtException e) {
+            result = "unsupported";
             throw new UnsupportedTokenException();
 
         } catch (MalformedJwtException e) {
+            result = "malformed";
             throw new MalformedTokenException();
 
         } catch (SignatureException e) {
+            result = "invalid_signature";
             throw new TokenSignatureException();
+
+        } finally {
+            sample.stop(meterRegistry.timer(SecurityMetrics.TOKEN_VALIDATION_TIMER, "result", result));
         }
     }
 
     private AuthenticatedUser doValidation(String token) throws ExpiredJwtException, UnsupportedJwtException, MalformedJwtException {
-        String apiSecret = environmentService.getEnv(API_SECRET_ENVIRONMENT_VARIABLE_NAME);
-        Claims claims = Jwts.parser().setSigningKey(apiSecret.getBytes()).parseClaimsJws(token).getBody();
+        Key signingKey = configurationService.getSnapshot().getSigningKey();
+        Claims claims = Jwts.parser().setSigningKey(signingKey).parseClaimsJws(token).getBody();
 
         String username = claims.getSubject();
         String authority = claims.get(AUTHORITY_CLAIM, String.class);
@@ -56,6 +78,8 @@ class JWTService implements TokenService {
         AuthenticatedUser authenticatedUser = new AuthenticatedUser();
         authenticatedUser.setUsername(username);
         authenticatedUser.setAuthority(authority);
+
+        validatedTokenCache.put(token, authenticatedUser, claims.getExpiration());
         return authenticatedUser;
     }
 }
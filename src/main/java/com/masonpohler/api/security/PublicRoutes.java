@@ -0,0 +1,17 @@
+package com.masonpohler.api.security;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+final class PublicRoutes {
+    static final RequestMatcher MATCHER = new OrRequestMatcher(
+            new AntPathRequestMatcher("/login"),
+            new AntPathRequestMatcher("/**", HttpMethod.GET.name()),
+            new AntPathRequestMatcher("/**", HttpMethod.OPTIONS.name())
+    );
+
+    private PublicRoutes() {
+    }
+}
@@ -0,0 +1,9 @@
+package com.masonpohler.api.security;
+
+final class SecurityMetrics {
+    static final String FILTER_TIMER = "projects.security.filter";
+    static final String TOKEN_VALIDATION_TIMER = "projects.jwt.validations";
+
+    private SecurityMetrics() {
+    }
+}
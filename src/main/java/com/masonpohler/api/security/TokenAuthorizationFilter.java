@@ -1,6 +1,9 @@
 package com.masonpohler.api.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -20,11 +23,23 @@ public class TokenAuthorizationFilter extends OncePerRequestFilter {
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
 
+    @Value("${security.token-filter.validate-public-routes:false}")
+    private boolean validatePublicRoutes;
+
     @Autowired
     private TokenService tokenService;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !validatePublicRoutes && PublicRoutes.MATCHER.matches(request);
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, FilterChain filterChain) throws ServletException, IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             String token = httpServletRequest.getHeader(AUTHORIZATION_HEADER);
             if (token != null) {
@@ -35,12 +50,16 @@ public class TokenAuthorizationFilter extends OncePerRequestFilter {
                     SecurityContextHolder.clearContext();
                 }
             }
-            filterChain.doFilter(httpServletRequest, httpServletResponse);
 
         } catch (TokenValidationException e) {
+            sample.stop(meterRegistry.timer(SecurityMetrics.FILTER_TIMER, "filter", "token-authorization", "outcome", "rejected"));
             httpServletResponse.setStatus(HttpServletResponse.SC_FORBIDDEN);
             httpServletResponse.sendError(HttpServletResponse.SC_FORBIDDEN, e.getMessage());
+            return;
         }
+
+        sample.stop(meterRegistry.timer(SecurityMetrics.FILTER_TIMER, "filter", "token-authorization", "outcome", "accepted"));
+        filterChain.doFilter(httpServletRequest, httpServletResponse);
     }
 
     private void setUpSpringAuthentication(AuthenticatedUser authenticatedUser) {
@@ -0,0 +1,111 @@
+package com.masonpohler.api.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.masonpohler.api.cache.CacheNames;
+import com.masonpohler.api.cache.ManagedCache;
+import com.masonpohler.api.environment.ConfigurationReloadedEvent;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@Component
+class ValidatedTokenCache implements ManagedCache {
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final Cache<String, ValidatedToken> validatedTokens;
+
+    ValidatedTokenCache(@Value("${security.token-cache.maximum-size:10000}") long maximumSize) {
+        validatedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ValidatedTokenExpiry())
+                .recordStats()
+                .build();
+    }
+
+    AuthenticatedUser get(String token) {
+        String key = digest(token);
+        ValidatedToken validatedToken = validatedTokens.getIfPresent(key);
+        if (validatedToken == null) {
+            return null;
+        }
+
+        if (validatedToken.getExpiration() <= System.currentTimeMillis()) {
+            validatedTokens.invalidate(key);
+            return null;
+        }
+
+        return validatedToken.getAuthenticatedUser();
+    }
+
+    void put(String token, AuthenticatedUser authenticatedUser, Date expiration) {
+        if (expiration == null || expiration.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        validatedTokens.put(digest(token), new ValidatedToken(authenticatedUser, expiration.getTime()));
+    }
+
+    @EventListener
+    void onConfigurationReloaded(ConfigurationReloadedEvent event) {
+        clear();
+    }
+
+    void clear() {
+        validatedTokens.invalidateAll();
+    }
+
+    @Override
+    public String getCacheName() {
+        return CacheNames.VALIDATED_TOKENS;
+    }
+
+    @Override
+    public Cache<?, ?> getNativeCache() {
+        return validatedTokens;
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+            byte[] digest = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Data
+    private static class ValidatedToken {
+        private final AuthenticatedUser authenticatedUser;
+        private final long expiration;
+    }
+
+    private static class ValidatedTokenExpiry implements Expiry<String, ValidatedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, ValidatedToken value, long currentTime) {
+            long remainingMilliseconds = value.getExpiration() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMilliseconds));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, ValidatedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, ValidatedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.masonpohler.api.source;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(value = HttpStatus.CONFLICT)
+class DuplicateSourceURLException extends RuntimeException {
+
+    DuplicateSourceURLException(String url) {
+        super("Source with url " + url + " already exists");
+    }
+}
@@ -1,17 +1,27 @@
 package com.masonpohler.api.source;
 
+import com.masonpohler.api.persistence.PooledSequenceGenerator;
 import lombok.Data;
+import org.hibernate.annotations.GenericGenerator;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import javax.persistence.*;
+import java.util.Date;
 
 @Data
 @Entity
+@Table(indexes = @Index(name = Source.URL_INDEX, columnList = "url", unique = true))
 public class Source {
+    public static final String URL_INDEX = "ux_source_url";
 
     @Id
-    @GeneratedValue
+    @GeneratedValue(generator = PooledSequenceGenerator.NAME)
+    @GenericGenerator(name = PooledSequenceGenerator.NAME, strategy = PooledSequenceGenerator.STRATEGY)
     private long id;
 
     private String name;
     private String url;
+
+    @UpdateTimestamp
+    private Date lastModified;
 }
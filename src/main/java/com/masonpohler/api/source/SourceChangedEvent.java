@@ -0,0 +1,14 @@
+package com.masonpohler.api.source;
+
+import lombok.Data;
+
+@Data
+public class SourceChangedEvent {
+    public enum Type {
+        CREATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final long sourceId;
+}
@@ -1,30 +1,63 @@
 package com.masonpohler.api.source;
 
+import com.masonpohler.api.cache.LastModifiedTracker;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
 @RestController
 class SourceController {
+    private final LastModifiedTracker lastModifiedTracker = new LastModifiedTracker();
 
     @Autowired
     private SourceRepository repository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @GetMapping("/sources")
-    List<Source> getAllSources() {
-        return repository.findAll();
+    ResponseEntity<List<Source>> getAllSources() {
+        List<Source> sources = repository.findAll();
+
+        long newestModification = 0;
+        for (Source source : sources) {
+            if (source.getLastModified() != null) {
+                newestModification = Math.max(newestModification, source.getLastModified().getTime());
+            }
+        }
+
+        String etag = sources.size() + "-" + newestModification;
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .eTag(etag)
+                .lastModified(lastModifiedTracker.update(etag, newestModification))
+                .body(sources);
     }
 
     @GetMapping("/source/{id}")
-    Source getSourceById(long id) {
+    Source getSourceById(@PathVariable long id) {
         return repository.findById(id)
                 .orElseThrow(() -> new SourceNotFoundException(id));
     }
 
     @PostMapping("/sources/create")
     Source createSource(@RequestBody Source source) {
-        return repository.save(source);
+        Source createdSource;
+        try {
+            createdSource = repository.save(source);
+        } catch (DataIntegrityViolationException e) {
+            if (source.getUrl() != null && repository.findByUrl(source.getUrl()).isPresent()) {
+                throw new DuplicateSourceURLException(source.getUrl());
+            }
+            throw e;
+        }
+        eventPublisher.publishEvent(new SourceChangedEvent(SourceChangedEvent.Type.CREATED, createdSource.getId()));
+        return createdSource;
     }
 
     @DeleteMapping("source/{id}/delete")
@@ -32,5 +65,6 @@ class SourceController {
         Source source = repository.findById(id)
                 .orElseThrow(() -> new SourceNotFoundException(id));
         repository.delete(source);
+        eventPublisher.publishEvent(new SourceChangedEvent(SourceChangedEvent.Type.DELETED, id));
     }
 }
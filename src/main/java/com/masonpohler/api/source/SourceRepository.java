@@ -1,6 +1,40 @@
 package com.masonpohler.api.source;
 
+import com.masonpohler.api.cache.CacheNames;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-interface SourceRepository extends JpaRepository<Source, Long> {
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface SourceRepository extends JpaRepository<Source, Long> {
+
+    @Override
+    @Cacheable(CacheNames.SOURCES)
+    List<Source> findAll();
+
+    @Override
+    @Cacheable(cacheNames = CacheNames.SOURCE, unless = "#result == null")
+    Optional<Source> findById(Long id);
+
+    Optional<Source> findByUrl(String url);
+
+    List<Source> findByUrlIn(Collection<String> urls);
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.SOURCE, key = "#p0.id"),
+            @CacheEvict(cacheNames = CacheNames.SOURCES, allEntries = true)
+    })
+    <S extends Source> S save(S source);
+
+    @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheNames.SOURCE, key = "#p0.id"),
+            @CacheEvict(cacheNames = CacheNames.SOURCES, allEntries = true)
+    })
+    void delete(Source source);
 }
@@ -0,0 +1,22 @@
+-- NOTE: INCREMENT BY 50 below is hard-coded. It must equal
+-- spring.jpa.properties.projects.id.allocation_size (default 50); if that setting is
+-- changed, edit this script to match before running it.
+--
+-- Project and Source ids are allocated by PooledSequenceGenerator (pooled-lo).
+-- Each call to NEXTVAL reserves a block of ids, so the sequence has to step by
+-- the allocation size. Run once against an existing database, before starting
+-- the new version. Verified on MariaDB 10.11.
+
+-- SETVAL and ALTER SEQUENCE only accept literals, so the restart value is
+-- computed first and the statement is built from it.
+SET @next_id = GREATEST(
+    (SELECT COALESCE(MAX(id), 0) FROM project),
+    (SELECT COALESCE(MAX(id), 0) FROM source)
+) + 1;
+
+SET @restart_sequence = CONCAT(
+    'ALTER SEQUENCE hibernate_sequence INCREMENT BY 50 RESTART WITH ', @next_id
+);
+PREPARE restart_sequence FROM @restart_sequence;
+EXECUTE restart_sequence;
+DEALLOCATE PREPARE restart_sequence;
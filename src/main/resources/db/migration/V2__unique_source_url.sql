@@ -0,0 +1,31 @@
+-- Sources are shared by url (see Source.URL_INDEX), so the url column gets a
+-- unique index. Existing duplicates are merged into the oldest row for each url.
+-- Run once against an existing database, before starting the new version.
+
+CREATE TEMPORARY TABLE source_url_keep AS
+SELECT url, MIN(id) AS keep_id
+FROM source
+WHERE url IS NOT NULL
+GROUP BY url
+HAVING COUNT(*) > 1;
+
+-- Point project links at the kept source. IGNORE skips links the project
+-- already has to the kept source; those are removed with the duplicate rows.
+UPDATE IGNORE project_source ps
+JOIN source s ON s.id = ps.source_id
+JOIN source_url_keep k ON k.url = s.url
+SET ps.source_id = k.keep_id
+WHERE s.id <> k.keep_id;
+
+DELETE ps FROM project_source ps
+JOIN source s ON s.id = ps.source_id
+JOIN source_url_keep k ON k.url = s.url
+WHERE s.id <> k.keep_id;
+
+DELETE s FROM source s
+JOIN source_url_keep k ON k.url = s.url
+WHERE s.id <> k.keep_id;
+
+DROP TEMPORARY TABLE source_url_keep;
+
+CREATE UNIQUE INDEX ux_source_url ON source (url);
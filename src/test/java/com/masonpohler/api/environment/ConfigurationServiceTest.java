@@ -0,0 +1,175 @@
+package com.masonpohler.api.environment;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.yaml.snakeyaml.error.MissingEnvironmentVariableException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConfigurationServiceTest {
+    private static final String API_SECRET_ENVIRONMENT_VARIABLE_NAME = "API_SECRET";
+    private static final String APPLICATION_URL_VARIABLE_NAME = "APPLICATION_URL";
+    private static final String ADMIN_USERNAME_VARIABLE_NAME = "ADMIN_USERNAME";
+    private static final String API_SECRET = "secret";
+    private static final String ROTATED_API_SECRET = "rotatedSecret";
+    private static final String APPLICATION_URL = "https://masonpohler.com";
+    private static final String SECOND_APPLICATION_URL = "https://admin.masonpohler.com";
+
+    @TempDir
+    Path temporaryDirectory;
+
+    @Mock
+    private EnvironmentService mockedEnvironmentService;
+
+    @Mock
+    private ApplicationEventPublisher mockedEventPublisher;
+
+    @InjectMocks
+    private ConfigurationService configurationService;
+
+    @BeforeEach
+    void set_up() {
+        MockitoAnnotations.initMocks(this);
+        when(mockedEnvironmentService.getEnv(API_SECRET_ENVIRONMENT_VARIABLE_NAME)).thenReturn(API_SECRET);
+        when(mockedEnvironmentService.getEnv(APPLICATION_URL_VARIABLE_NAME)).thenReturn(APPLICATION_URL);
+        when(mockedEnvironmentService.reload(any())).thenAnswer(invocationOnMock ->
+                invocationOnMock.<Function<EnvironmentService, ?>>getArgument(0).apply(mockedEnvironmentService));
+    }
+
+    // load
+
+    @Test
+    void load_throws_missing_environment_variable_exception_when_api_secret_is_not_set() {
+        when(mockedEnvironmentService.getEnv(API_SECRET_ENVIRONMENT_VARIABLE_NAME))
+                .thenThrow(MissingEnvironmentVariableException.class);
+        assertThrows(MissingEnvironmentVariableException.class, () -> configurationService.load());
+    }
+
+    @Test
+    void load_throws_missing_environment_variable_exception_when_application_url_is_not_set() {
+        when(mockedEnvironmentService.getEnv(APPLICATION_URL_VARIABLE_NAME))
+                .thenThrow(MissingEnvironmentVariableException.class);
+        assertThrows(MissingEnvironmentVariableException.class, () -> configurationService.load());
+    }
+
+    // getSnapshot
+
+    @Test
+    void get_snapshot_returns_signing_key_built_from_api_secret() {
+        configurationService.load();
+
+        ConfigurationSnapshot snapshot = configurationService.getSnapshot();
+
+        assertArrayEquals(API_SECRET.getBytes(), snapshot.getSigningKey().getEncoded());
+        assertEquals("HmacSHA256", snapshot.getSigningKey().getAlgorithm());
+    }
+
+    @Test
+    void get_snapshot_returns_application_url_as_allowed_origin() {
+        configurationService.load();
+
+        assertEquals(Collections.singleton(APPLICATION_URL), configurationService.getSnapshot().getAllowedOrigins());
+    }
+
+    @Test
+    void get_snapshot_returns_each_comma_separated_application_url_as_allowed_origin() {
+        when(mockedEnvironmentService.getEnv(APPLICATION_URL_VARIABLE_NAME))
+                .thenReturn(APPLICATION_URL + "/, " + SECOND_APPLICATION_URL + ",");
+        configurationService.load();
+
+        Set<String> expectedOrigins = new HashSet<>(Arrays.asList(APPLICATION_URL, SECOND_APPLICATION_URL));
+        assertEquals(expectedOrigins, configurationService.getSnapshot().getAllowedOrigins());
+    }
+
+    @Test
+    void get_snapshot_does_not_read_environment_again() {
+        configurationService.load();
+
+        configurationService.getSnapshot();
+        configurationService.getSnapshot();
+
+        verify(mockedEnvironmentService, times(1)).getEnv(API_SECRET_ENVIRONMENT_VARIABLE_NAME);
+    }
+
+    // reload
+
+    @Test
+    void reload_replaces_snapshot_with_rotated_secret() {
+        configurationService.load();
+        when(mockedEnvironmentService.getEnv(API_SECRET_ENVIRONMENT_VARIABLE_NAME)).thenReturn(ROTATED_API_SECRET);
+
+        configurationService.reload();
+
+        verify(mockedEnvironmentService).reload(any());
+        assertArrayEquals(ROTATED_API_SECRET.getBytes(), configurationService.getSnapshot().getSigningKey().getEncoded());
+    }
+
+    @Test
+    void reload_publishes_configuration_reloaded_event() {
+        configurationService.load();
+
+        ConfigurationSnapshot snapshot = configurationService.reload();
+
+        ArgumentCaptor<ConfigurationReloadedEvent> event = ArgumentCaptor.forClass(ConfigurationReloadedEvent.class);
+        verify(mockedEventPublisher).publishEvent(event.capture());
+        assertSame(snapshot, event.getValue().getSnapshot());
+    }
+
+    @Test
+    void reload_keeps_previous_snapshot_when_variable_is_missing() {
+        configurationService.load();
+        ConfigurationSnapshot previousSnapshot = configurationService.getSnapshot();
+        when(mockedEnvironmentService.getEnv(API_SECRET_ENVIRONMENT_VARIABLE_NAME))
+                .thenThrow(MissingEnvironmentVariableException.class);
+
+        assertThrows(MissingEnvironmentVariableException.class, () -> configurationService.reload());
+        assertSame(previousSnapshot, configurationService.getSnapshot());
+        verify(mockedEventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void reload_keeps_previous_environment_variables_when_api_secret_is_missing() throws IOException {
+        Path overlayFile = temporaryDirectory.resolve("environment.properties");
+        writeOverlayFile(overlayFile, API_SECRET_ENVIRONMENT_VARIABLE_NAME + "=" + API_SECRET,
+                APPLICATION_URL_VARIABLE_NAME + "=" + APPLICATION_URL,
+                ADMIN_USERNAME_VARIABLE_NAME + "=admin");
+        SystemEnvironmentService environmentService = new SystemEnvironmentService();
+        ReflectionTestUtils.setField(environmentService, "overlayFile", overlayFile.toString());
+        environmentService.reload();
+        ConfigurationService service = new ConfigurationService();
+        ReflectionTestUtils.setField(service, "environmentService", environmentService);
+        ReflectionTestUtils.setField(service, "eventPublisher", mockedEventPublisher);
+        service.load();
+
+        writeOverlayFile(overlayFile, APPLICATION_URL_VARIABLE_NAME + "=" + APPLICATION_URL,
+                ADMIN_USERNAME_VARIABLE_NAME + "=partial");
+
+        assertThrows(MissingEnvironmentVariableException.class, service::reload);
+        assertEquals("admin", environmentService.getEnv(ADMIN_USERNAME_VARIABLE_NAME));
+        assertEquals(API_SECRET, environmentService.getEnv(API_SECRET_ENVIRONMENT_VARIABLE_NAME));
+    }
+
+    // helper functions
+
+    private void writeOverlayFile(Path overlayFile, String... lines) throws IOException {
+        Files.write(overlayFile, Arrays.asList(lines), StandardCharsets.ISO_8859_1);
+    }
+}
@@ -0,0 +1,101 @@
+package com.masonpohler.api.environment;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.yaml.snakeyaml.error.MissingEnvironmentVariableException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SystemEnvironmentServiceTest {
+    private static final String OVERLAY_VARIABLE_NAME = "PROJECTS_API_TEST_VARIABLE";
+
+    @TempDir
+    Path temporaryDirectory;
+
+    private Path overlayFile;
+
+    private SystemEnvironmentService environmentService;
+
+    @BeforeEach
+    void set_up() {
+        overlayFile = temporaryDirectory.resolve("environment.properties");
+        environmentService = new SystemEnvironmentService();
+        ReflectionTestUtils.setField(environmentService, "overlayFile", overlayFile.toString());
+    }
+
+    // getEnv
+
+    @Test
+    void get_env_throws_missing_environment_variable_exception_when_variable_is_not_set() throws IOException {
+        writeOverlayFile("");
+        environmentService.reload();
+
+        assertThrows(MissingEnvironmentVariableException.class, () -> environmentService.getEnv(OVERLAY_VARIABLE_NAME));
+    }
+
+    @Test
+    void get_env_returns_variable_from_overlay_file() throws IOException {
+        writeOverlayFile(OVERLAY_VARIABLE_NAME + "=first");
+        environmentService.reload();
+
+        assertEquals("first", environmentService.getEnv(OVERLAY_VARIABLE_NAME));
+    }
+
+    // reload
+
+    @Test
+    void reload_picks_up_changed_overlay_file() throws IOException {
+        writeOverlayFile(OVERLAY_VARIABLE_NAME + "=first");
+        environmentService.reload();
+
+        writeOverlayFile(OVERLAY_VARIABLE_NAME + "=second");
+        environmentService.reload();
+
+        assertEquals("second", environmentService.getEnv(OVERLAY_VARIABLE_NAME));
+    }
+
+    @Test
+    void reload_does_not_change_variables_until_called() throws IOException {
+        writeOverlayFile(OVERLAY_VARIABLE_NAME + "=first");
+        environmentService.reload();
+
+        writeOverlayFile(OVERLAY_VARIABLE_NAME + "=second");
+
+        assertEquals("first", environmentService.getEnv(OVERLAY_VARIABLE_NAME));
+    }
+
+    @Test
+    void reload_passes_reloaded_variables_to_validator() throws IOException {
+        writeOverlayFile(OVERLAY_VARIABLE_NAME + "=first");
+        environmentService.reload();
+
+        writeOverlayFile(OVERLAY_VARIABLE_NAME + "=second");
+        String validated = environmentService.reload(environment -> environment.getEnv(OVERLAY_VARIABLE_NAME));
+
+        assertEquals("second", validated);
+        assertEquals("second", environmentService.getEnv(OVERLAY_VARIABLE_NAME));
+    }
+
+    @Test
+    void reload_keeps_previous_variables_when_validator_rejects_reloaded_variables() throws IOException {
+        writeOverlayFile(OVERLAY_VARIABLE_NAME + "=first");
+        environmentService.reload();
+
+        writeOverlayFile("");
+
+        assertThrows(MissingEnvironmentVariableException.class,
+                () -> environmentService.reload(environment -> environment.getEnv(OVERLAY_VARIABLE_NAME)));
+        assertEquals("first", environmentService.getEnv(OVERLAY_VARIABLE_NAME));
+    }
+
+    private void writeOverlayFile(String contents) throws IOException {
+        Files.write(overlayFile, contents.getBytes(StandardCharsets.ISO_8859_1));
+    }
+}
@@ -0,0 +1,42 @@
+package com.masonpohler.api.execution;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.core.NestedExceptionUtils;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadExecutionConfigTest {
+    private static final String VIRTUAL_THREADS_PROPERTY = "projects.execution.virtual-threads=true";
+    private static final String TOMCAT_CUSTOMIZER_BEAN_NAME = "virtualThreadTomcatCustomizer";
+
+    private final WebApplicationContextRunner contextRunner = new WebApplicationContextRunner()
+            .withUserConfiguration(VirtualThreadExecutionConfig.class);
+
+    @Test
+    void virtual_threads_are_disabled_by_default() {
+        contextRunner.run(context -> assertFalse(context.containsBean(TOMCAT_CUSTOMIZER_BEAN_NAME)));
+    }
+
+    @Test
+    void enabling_virtual_threads_customizes_tomcat_when_they_are_supported() {
+        assumeTrue(VirtualThreads.isSupported());
+
+        contextRunner.withPropertyValues(VIRTUAL_THREADS_PROPERTY)
+                .run(context -> assertTrue(context.containsBean(TOMCAT_CUSTOMIZER_BEAN_NAME)));
+    }
+
+    @Test
+    void enabling_virtual_threads_fails_startup_when_they_are_unsupported() {
+        assumeFalse(VirtualThreads.isSupported());
+
+        contextRunner.withPropertyValues(VIRTUAL_THREADS_PROPERTY).run(context -> {
+            assertNotNull(context.getStartupFailure());
+            assertTrue(NestedExceptionUtils.getRootCause(context.getStartupFailure()) instanceof IllegalStateException);
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package com.masonpohler.api.execution;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadsTest {
+
+    // newVirtualThreadPerTaskExecutor
+
+    @Test
+    void new_virtual_thread_per_task_executor_runs_tasks_on_virtual_threads() throws Exception {
+        assumeTrue(VirtualThreads.isSupported());
+        ExecutorService executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+
+        String threadName = executor.submit(() -> Thread.currentThread().toString()).get(1, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertTrue(threadName.startsWith("VirtualThread"));
+    }
+
+    @Test
+    void new_virtual_thread_per_task_executor_throws_illegal_state_exception_when_virtual_threads_are_unsupported() {
+        assumeFalse(VirtualThreads.isSupported());
+
+        assertThrows(IllegalStateException.class, VirtualThreads::newVirtualThreadPerTaskExecutor);
+    }
+}
@@ -0,0 +1,32 @@
+package com.masonpohler.api.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ConcurrencyLimitedDataSourcePostProcessorTest {
+    private static final String VIRTUAL_THREADS_PROPERTY = "projects.execution.virtual-threads=true";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withBean(DataSource.class, SimpleDriverDataSource::new)
+            .withUserConfiguration(DatabaseConcurrencyLimiter.class, ConcurrencyLimitedDataSourcePostProcessor.class);
+
+    @Test
+    void data_source_is_left_unwrapped_by_default() {
+        contextRunner.run(context -> {
+            assertFalse(context.getBean(DataSource.class) instanceof ConcurrencyLimitedDataSource);
+            assertTrue(context.getBeansOfType(DatabaseConcurrencyLimiter.class).isEmpty());
+        });
+    }
+
+    @Test
+    void data_source_is_limited_when_virtual_threads_are_enabled() {
+        contextRunner.withPropertyValues(VIRTUAL_THREADS_PROPERTY)
+                .run(context -> assertTrue(context.getBean(DataSource.class) instanceof ConcurrencyLimitedDataSource));
+    }
+}
@@ -0,0 +1,103 @@
+package com.masonpohler.api.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ConcurrencyLimitedDataSourceTest {
+    private static final int MAX_CONCURRENCY = 2;
+    private static final long ACQUIRE_TIMEOUT_IN_MILLISECONDS = 10L;
+
+    private DataSource mockedDataSource;
+    private Connection mockedConnection;
+    private DatabaseConcurrencyLimiter limiter;
+    private ConcurrencyLimitedDataSource dataSource;
+
+    @BeforeEach
+    void set_up() throws SQLException {
+        mockedDataSource = mock(DataSource.class);
+        mockedConnection = mock(Connection.class);
+        when(mockedDataSource.getConnection()).thenReturn(mockedConnection);
+
+        limiter = new DatabaseConcurrencyLimiter(MAX_CONCURRENCY, ACQUIRE_TIMEOUT_IN_MILLISECONDS);
+        dataSource = new ConcurrencyLimitedDataSource(mockedDataSource, limiter);
+    }
+
+    // getConnection
+
+    @Test
+    void get_connection_holds_a_permit_until_connection_is_closed() throws SQLException {
+        Connection connection = dataSource.getConnection();
+        assertEquals(MAX_CONCURRENCY - 1, limiter.getAvailablePermits());
+
+        connection.close();
+
+        assertEquals(MAX_CONCURRENCY, limiter.getAvailablePermits());
+        verify(mockedConnection, times(1)).close();
+    }
+
+    @Test
+    void get_connection_releases_permit_only_once_when_connection_is_closed_twice() throws SQLException {
+        Connection connection = dataSource.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertEquals(MAX_CONCURRENCY, limiter.getAvailablePermits());
+    }
+
+    @Test
+    void get_connection_returns_connection_that_delegates_to_borrowed_connection() throws SQLException {
+        when(mockedConnection.getAutoCommit()).thenReturn(true);
+        Connection connection = dataSource.getConnection();
+
+        connection.setAutoCommit(false);
+
+        assertEquals(true, connection.getAutoCommit());
+        verify(mockedConnection, times(1)).setAutoCommit(false);
+    }
+
+    @Test
+    void get_connection_throws_database_busy_exception_when_no_permit_is_released_in_time() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThrows(DatabaseBusyException.class, () -> dataSource.getConnection());
+        verify(mockedDataSource, times(MAX_CONCURRENCY)).getConnection();
+    }
+
+    @Test
+    void get_connection_releases_permit_when_borrowing_fails() throws SQLException {
+        when(mockedDataSource.getConnection()).thenThrow(new SQLTransientConnectionException("Connection is not available"));
+
+        assertThrows(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        assertEquals(MAX_CONCURRENCY, limiter.getAvailablePermits());
+    }
+
+    @Test
+    void get_connection_does_not_borrow_when_waiting_for_permit_is_interrupted() throws SQLException {
+        dataSource.getConnection();
+        dataSource.getConnection();
+        Thread.currentThread().interrupt();
+
+        try {
+            assertThrows(DatabaseBusyException.class, () -> dataSource.getConnection());
+        } finally {
+            Thread.interrupted();
+        }
+        verify(mockedDataSource, times(MAX_CONCURRENCY)).getConnection();
+        verify(mockedConnection, never()).close();
+    }
+}
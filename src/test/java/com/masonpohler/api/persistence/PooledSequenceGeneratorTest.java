@@ -0,0 +1,98 @@
+package com.masonpohler.api.persistence;
+
+import com.masonpohler.api.source.Source;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PooledSequenceGeneratorTest {
+    private static final int THREAD_COUNT = 8;
+    private static final int INSERTS_PER_THREAD = 200;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void tear_down() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        entityManager.getTransaction().begin();
+        entityManager.createQuery("DELETE FROM Source").executeUpdate();
+        entityManager.getTransaction().commit();
+        entityManager.close();
+    }
+
+    @Test
+    void concurrent_inserts_receive_unique_ids() throws Exception {
+        List<Long> ids = insertConcurrently();
+
+        assertEquals(THREAD_COUNT * INSERTS_PER_THREAD, new HashSet<>(ids).size());
+    }
+
+    @Test
+    void concurrent_inserts_allocate_ids_in_blocks() throws Exception {
+        List<Long> ids = insertConcurrently();
+
+        Set<Long> blocks = new HashSet<>();
+        for (long id : ids) {
+            blocks.add((id - 1) / PooledSequenceGenerator.DEFAULT_ALLOCATION_SIZE);
+        }
+
+        int insertCount = THREAD_COUNT * INSERTS_PER_THREAD;
+        assertTrue(blocks.size() <= insertCount / PooledSequenceGenerator.DEFAULT_ALLOCATION_SIZE + 1);
+    }
+
+    private List<Long> insertConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        try {
+            List<Callable<List<Long>>> tasks = new ArrayList<>();
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                tasks.add(this::insertSources);
+            }
+
+            List<Long> ids = new ArrayList<>();
+            for (Future<List<Long>> future : executor.invokeAll(tasks)) {
+                ids.addAll(future.get());
+            }
+            return ids;
+
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private List<Long> insertSources() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < INSERTS_PER_THREAD; i++) {
+            EntityManager entityManager = entityManagerFactory.createEntityManager();
+            entityManager.getTransaction().begin();
+
+            Source source = new Source();
+            source.setName("Source " + Thread.currentThread().getName() + "-" + i);
+            entityManager.persist(source);
+
+            entityManager.getTransaction().commit();
+            entityManager.close();
+            ids.add(source.getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,92 @@
+package com.masonpohler.api.persistence;
+
+import com.masonpohler.api.source.SourceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.dao.DataRetrievalFailureException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RepositoryMetricsInterceptorTest {
+
+    private MeterRegistry meterRegistry;
+    private RepositoryMetricsInterceptor interceptor;
+
+    @BeforeEach
+    void set_up() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new RepositoryMetricsInterceptor(providerOf(meterRegistry), SourceRepository.class);
+    }
+
+    // invoke
+
+    @Test
+    void invoke_returns_result_of_invocation() throws Throwable {
+        MethodInvocation invocation = mockInvocation("findAll");
+        when(invocation.proceed()).thenReturn("result");
+
+        assertEquals("result", interceptor.invoke(invocation));
+    }
+
+    @Test
+    void invoke_records_successful_invocation_by_repository_and_method() throws Throwable {
+        MethodInvocation invocation = mockInvocation("findAll");
+
+        interceptor.invoke(invocation);
+
+        Timer timer = meterRegistry.find(RepositoryMetricsInterceptor.TIMER_NAME)
+                .tags("repository", "SourceRepository", "method", "findAll", "outcome", "SUCCESS", "exception", "none")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void invoke_records_failed_invocation_with_exception_and_rethrows() throws Throwable {
+        MethodInvocation invocation = mockInvocation("findAll");
+        when(invocation.proceed()).thenThrow(new DataRetrievalFailureException("Connection refused"));
+
+        assertThrows(DataRetrievalFailureException.class, () -> interceptor.invoke(invocation));
+
+        Timer timer = meterRegistry.find(RepositoryMetricsInterceptor.TIMER_NAME)
+                .tags("outcome", "ERROR", "exception", "DataRetrievalFailureException")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void invoke_only_proceeds_when_no_meter_registry_is_available() throws Throwable {
+        RepositoryMetricsInterceptor interceptorWithoutRegistry =
+                new RepositoryMetricsInterceptor(new StaticListableBeanFactory().getBeanProvider(MeterRegistry.class), SourceRepository.class);
+        MethodInvocation invocation = mockInvocation("findAll");
+        when(invocation.proceed()).thenReturn("result");
+
+        assertEquals("result", interceptorWithoutRegistry.invoke(invocation));
+        assertEquals(0, meterRegistry.getMeters().size());
+    }
+
+    // helper functions
+
+    private MethodInvocation mockInvocation(String methodName) throws NoSuchMethodException {
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(SourceRepository.class.getMethod(methodName));
+        return invocation;
+    }
+
+    private ObjectProvider<MeterRegistry> providerOf(MeterRegistry registry) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("meterRegistry", registry);
+        return beanFactory.getBeanProvider(MeterRegistry.class);
+    }
+}
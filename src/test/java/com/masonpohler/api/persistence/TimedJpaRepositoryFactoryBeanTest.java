@@ -0,0 +1,35 @@
+package com.masonpohler.api.persistence;
+
+import com.masonpohler.api.source.SourceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import(SimpleMeterRegistry.class)
+class TimedJpaRepositoryFactoryBeanTest {
+
+    @Autowired
+    private SourceRepository sourceRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void repository_invocations_are_timed() {
+        sourceRepository.count();
+
+        Timer timer = meterRegistry.find(RepositoryMetricsInterceptor.TIMER_NAME)
+                .tags("repository", "SourceRepository", "method", "count")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+}
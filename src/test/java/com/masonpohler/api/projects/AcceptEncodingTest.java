@@ -0,0 +1,51 @@
+package com.masonpohler.api.projects;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AcceptEncodingTest {
+    private static final String GZIP = "gzip";
+
+    // accepts
+
+    @Test
+    void accepts_returns_false_without_header() {
+        assertFalse(AcceptEncoding.accepts(null, GZIP));
+        assertFalse(AcceptEncoding.accepts("", GZIP));
+    }
+
+    @Test
+    void accepts_returns_true_when_coding_is_listed_ignoring_case_and_whitespace() {
+        assertTrue(AcceptEncoding.accepts("deflate, GZip ,br", GZIP));
+    }
+
+    @Test
+    void accepts_respects_quality_of_listed_coding() {
+        assertTrue(AcceptEncoding.accepts("gzip;q=0.5", GZIP));
+        assertFalse(AcceptEncoding.accepts("gzip;q=0", GZIP));
+        assertFalse(AcceptEncoding.accepts("gzip; Q=0.000, br", GZIP));
+    }
+
+    @Test
+    void accepts_does_not_match_codings_that_only_contain_the_name() {
+        assertFalse(AcceptEncoding.accepts("x-gzip-experimental, nogzip", GZIP));
+    }
+
+    @Test
+    void accepts_falls_back_to_wildcard_when_coding_is_not_listed() {
+        assertTrue(AcceptEncoding.accepts("*", GZIP));
+        assertFalse(AcceptEncoding.accepts("br, *;q=0", GZIP));
+    }
+
+    @Test
+    void accepts_prefers_listed_coding_over_wildcard() {
+        assertFalse(AcceptEncoding.accepts("*, gzip;q=0", GZIP));
+        assertTrue(AcceptEncoding.accepts("*;q=0, gzip", GZIP));
+    }
+
+    @Test
+    void accepts_treats_malformed_quality_as_not_acceptable() {
+        assertFalse(AcceptEncoding.accepts("gzip;q=high", GZIP));
+    }
+}
@@ -0,0 +1,71 @@
+package com.masonpohler.api.projects;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedLineReaderTest {
+    private static final int MAX_LENGTH = 5;
+
+    // readLine
+
+    @Test
+    void read_line_splits_on_line_feed_and_carriage_return_line_feed() throws IOException {
+        BoundedLineReader reader = reader("one\r\ntwo\nthree");
+
+        assertEquals("one", reader.readLine());
+        assertEquals("two", reader.readLine());
+        assertEquals("three", reader.readLine());
+        assertNull(reader.readLine());
+    }
+
+    @Test
+    void read_line_returns_empty_lines() throws IOException {
+        BoundedLineReader reader = reader("\n\nend");
+
+        assertEquals("", reader.readLine());
+        assertEquals("", reader.readLine());
+        assertEquals("end", reader.readLine());
+    }
+
+    @Test
+    void read_line_keeps_only_max_length_characters_of_a_longer_line_and_flags_it() throws IOException {
+        BoundedLineReader reader = reader("abcdefgh\nok");
+
+        assertEquals("abcde", reader.readLine());
+        assertTrue(reader.isTooLong());
+        assertEquals("ok", reader.readLine());
+        assertFalse(reader.isTooLong());
+    }
+
+    @Test
+    void read_line_does_not_flag_line_of_exactly_max_length_ending_in_carriage_return_line_feed() throws IOException {
+        BoundedLineReader reader = reader("abcde\r\nok");
+
+        assertEquals("abcde", reader.readLine());
+        assertFalse(reader.isTooLong());
+        assertEquals("ok", reader.readLine());
+    }
+
+    @Test
+    void read_line_reads_lines_spanning_several_buffers() throws IOException {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            input.append('x');
+        }
+        input.append("\nend");
+        BoundedLineReader reader = reader(input.toString());
+
+        assertEquals("xxxxx", reader.readLine());
+        assertTrue(reader.isTooLong());
+        assertEquals("end", reader.readLine());
+        assertNull(reader.readLine());
+    }
+
+    private BoundedLineReader reader(String input) {
+        return new BoundedLineReader(new StringReader(input), MAX_LENGTH);
+    }
+}
@@ -0,0 +1,74 @@
+package com.masonpohler.api.projects;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CoalescingRebuilderTest {
+    private final CountDownLatch rebuildStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseRebuild = new CountDownLatch(1);
+    private final AtomicInteger rebuilds = new AtomicInteger();
+
+    private CoalescingRebuilder rebuilder;
+
+    @AfterEach
+    void tear_down() {
+        releaseRebuild.countDown();
+        rebuilder.shutdown();
+    }
+
+    // request
+
+    @Test
+    void request_runs_one_rebuild_for_requests_made_while_one_is_queued() throws InterruptedException {
+        CountDownLatch secondRebuildDone = new CountDownLatch(2);
+        rebuilder = new CoalescingRebuilder("test-rebuild", () -> {
+            rebuilds.incrementAndGet();
+            rebuildStarted.countDown();
+            await(releaseRebuild);
+            secondRebuildDone.countDown();
+        });
+
+        rebuilder.request();
+        assertTrue(rebuildStarted.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 10; i++) {
+            rebuilder.request();
+        }
+        releaseRebuild.countDown();
+
+        assertTrue(secondRebuildDone.await(5, TimeUnit.SECONDS));
+        assertEquals(2, rebuilds.get());
+    }
+
+    @Test
+    void request_keeps_rebuilding_after_a_rebuild_fails() throws InterruptedException {
+        CountDownLatch secondRebuildDone = new CountDownLatch(1);
+        rebuilder = new CoalescingRebuilder("test-rebuild", () -> {
+            if (rebuilds.incrementAndGet() == 1) {
+                rebuildStarted.countDown();
+                throw new IllegalStateException("Database is down");
+            }
+            secondRebuildDone.countDown();
+        });
+
+        rebuilder.request();
+        assertTrue(rebuildStarted.await(5, TimeUnit.SECONDS));
+        rebuilder.request();
+
+        assertTrue(secondRebuildDone.await(5, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
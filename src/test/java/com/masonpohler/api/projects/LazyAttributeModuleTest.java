@@ -0,0 +1,67 @@
+package com.masonpohler.api.projects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class LazyAttributeModuleTest {
+    private static final String DETAILED_DESCRIPTION = "An API for storing information on all your Projects.";
+
+    @Autowired
+    private ProjectRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new LazyAttributeModule());
+
+    private long projectId;
+
+    @BeforeEach
+    void set_up() {
+        Project project = new Project();
+        project.setName("Projects API");
+        project.setDetailedDescription(DETAILED_DESCRIPTION);
+        projectId = entityManager.persistAndFlush(project).getId();
+        entityManager.clear();
+    }
+
+    @Test
+    void serializing_project_omits_detailed_description_when_it_was_not_loaded() {
+        Project project = repository.findById(projectId).orElseThrow(AssertionError::new);
+        entityManager.detach(project);
+
+        JsonNode json = objectMapper.valueToTree(project);
+
+        assertEquals("Projects API", json.get("name").asText());
+        assertFalse(json.has("detailedDescription"));
+    }
+
+    @Test
+    void serializing_project_includes_detailed_description_when_it_was_loaded() {
+        Project project = repository.findWithDetailsById(projectId).orElseThrow(AssertionError::new);
+        entityManager.detach(project);
+
+        JsonNode json = objectMapper.valueToTree(project);
+
+        assertEquals(DETAILED_DESCRIPTION, json.get("detailedDescription").asText());
+    }
+
+    @Test
+    void serializing_new_project_includes_detailed_description() {
+        Project project = new Project();
+        project.setDetailedDescription(DETAILED_DESCRIPTION);
+
+        JsonNode json = objectMapper.valueToTree(project);
+
+        assertEquals(DETAILED_DESCRIPTION, json.get("detailedDescription").asText());
+    }
+}
@@ -0,0 +1,110 @@
+package com.masonpohler.api.projects;
+
+import com.masonpohler.api.cache.CacheNames;
+import com.masonpohler.api.cache.TransactionAwareCacheManagerPostProcessor;
+import com.masonpohler.api.source.Source;
+import com.masonpohler.api.source.SourceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@AutoConfigureCache(cacheProvider = CacheType.CAFFEINE)
+@Import({ProjectSourceLinker.class, TransactionAwareCacheManagerPostProcessor.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProjectCacheEvictionTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private SourceRepository sourceRepository;
+
+    @Autowired
+    private ProjectSourceLinker sourceLinker;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private long projectId;
+    private long sourceId;
+
+    @BeforeEach
+    void set_up() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        Source source = new Source();
+        source.setName("GitHub");
+        source.setUrl("https://github.com/mpohler1");
+        sourceId = sourceRepository.save(source).getId();
+
+        Project project = new Project();
+        project.setName("Projects API");
+        projectId = projectRepository.save(project).getId();
+    }
+
+    @AfterEach
+    void tear_down() {
+        projectRepository.deleteAll();
+        sourceRepository.deleteAll();
+    }
+
+    @Test
+    void change_sources_evicts_cached_project_only_after_commit() {
+        projectRepository.findById(projectId);
+
+        new TransactionTemplate(transactionManager).execute(status -> {
+            ProjectSourceChanges changes = new ProjectSourceChanges();
+            changes.setAdd(Collections.singletonList(sourceId));
+            sourceLinker.changeSources(projectId, changes);
+
+            // A concurrent read before commit must not cache the project without its new source
+            Project concurrentRead = CompletableFuture.supplyAsync(() -> projectRepository.findById(projectId))
+                    .join()
+                    .orElseThrow(AssertionError::new);
+            assertEquals(0, concurrentRead.getSources().size());
+            return null;
+        });
+
+        Project project = projectRepository.findById(projectId).orElseThrow(AssertionError::new);
+        assertEquals(1, project.getSources().size());
+    }
+
+    @Test
+    void save_all_inside_transaction_evicts_project_list_only_after_commit() {
+        projectRepository.findAllByOrderByLastModifiedDesc();
+
+        new TransactionTemplate(transactionManager).execute(status -> {
+            Project project = new Project();
+            project.setName("Portfolio");
+            projectRepository.saveAll(Collections.singletonList(project));
+
+            assertNotNull(cacheManager.getCache(CacheNames.PROJECTS).get(SimpleKey.EMPTY));
+            return null;
+        });
+
+        assertNull(cacheManager.getCache(CacheNames.PROJECTS).get(SimpleKey.EMPTY));
+        assertEquals(2, projectRepository.findAllByOrderByLastModifiedDesc().size());
+    }
+}
@@ -7,46 +7,298 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.stubbing.Answer;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.doAnswer;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class ProjectControllerTest {
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final long CHANGES_OVERLAP_IN_MILLISECONDS = 5000;
+    private static final int TOMBSTONE_RETENTION_IN_DAYS = 30;
 
     @Mock
     private ProjectRepository mockedRepository;
 
+    @Mock
+    private ProjectListSnapshotCache mockedSnapshotCache;
+
+    @Mock
+    private ProjectSearchIndex mockedSearchIndex;
+
+    @Mock
+    private ProjectExporter mockedProjectExporter;
+
+    @Mock
+    private ProjectImporter mockedProjectImporter;
+
+    @Mock
+    private SourceResolver mockedSourceResolver;
+
+    @Mock
+    private ProjectSourceLinker mockedSourceLinker;
+
+    @Mock
+    private ProjectDeleter mockedProjectDeleter;
+
+    @Mock
+    private ProjectTombstoneRepository mockedTombstoneRepository;
+
+    @Mock
+    private ProjectEventStream mockedEventStream;
+
+    @Mock
+    private ApplicationEventPublisher mockedEventPublisher;
+
     @InjectMocks
     private ProjectController controller;
 
     @BeforeEach
     void set_up() {
         MockitoAnnotations.initMocks(this);
+        ReflectionTestUtils.setField(controller, "maxBatchSize", MAX_BATCH_SIZE);
+        ReflectionTestUtils.setField(controller, "changesOverlapInMilliseconds", CHANGES_OVERLAP_IN_MILLISECONDS);
+        ReflectionTestUtils.setField(controller, "tombstoneRetentionInDays", TOMBSTONE_RETENTION_IN_DAYS);
+        when(mockedSourceResolver.getOrCreate(any())).thenAnswer(invocationOnMock -> invocationOnMock.getArgument(0));
     }
 
     // getAllProjects
 
     @Test
-    void get_all_projects_returns_empty_list_when_there_are_no_projects() {
-        mockFindAll(new LinkedList<>());
-        List<Project> actualProjectList = controller.getAllProjects();
-        assert actualProjectList.size() == 0;
+    void get_all_projects_returns_snapshot_json_when_gzip_is_not_accepted() {
+        ProjectListSnapshot snapshot = mockSnapshot("[]");
+
+        ResponseEntity<byte[]> response = controller.getAllProjects(null);
+
+        assertSame(snapshot.getJson(), response.getBody());
+        assertEquals(snapshot.getJson().length, response.getHeaders().getContentLength());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    }
+
+    @Test
+    void get_all_projects_returns_gzipped_snapshot_json_when_gzip_is_accepted() {
+        ProjectListSnapshot snapshot = mockSnapshot("[]");
+
+        ResponseEntity<byte[]> response = controller.getAllProjects("gzip, deflate, br");
+
+        assertSame(snapshot.getGzippedJson(), response.getBody());
+        assertEquals(snapshot.getGzippedJson().length, response.getHeaders().getContentLength());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void get_all_projects_returns_snapshot_json_when_gzip_is_refused() {
+        ProjectListSnapshot snapshot = mockSnapshot("[]");
+
+        ResponseEntity<byte[]> response = controller.getAllProjects("gzip;q=0, deflate");
+
+        assertSame(snapshot.getJson(), response.getBody());
+        assertNull(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void get_all_projects_sets_etag_and_last_modified_from_snapshot() {
+        ProjectListSnapshot snapshot = mockSnapshot("[]");
+
+        ResponseEntity<byte[]> response = controller.getAllProjects(null);
+
+        assertEquals("\"" + snapshot.getEtag() + "\"", response.getHeaders().getETag());
+        assertEquals(snapshot.getLastModified(), response.getHeaders().getLastModified());
+    }
+
+    @Test
+    void get_all_projects_uses_distinct_etag_for_gzipped_snapshot() {
+        ProjectListSnapshot snapshot = mockSnapshot("[]");
+
+        ResponseEntity<byte[]> response = controller.getAllProjects("gzip");
+
+        assertEquals("\"" + snapshot.getGzippedEtag() + "\"", response.getHeaders().getETag());
+    }
+
+    // getProjectSummaries
+
+    @Test
+    void get_project_summaries_returns_summaries_from_repository() {
+        List<ProjectSummary> expectedSummaries = new LinkedList<>();
+        expectedSummaries.add(mock(ProjectSummary.class));
+        expectedSummaries.add(mock(ProjectSummary.class));
+        when(mockedRepository.findAllProjectedByOrderByLastModifiedDesc()).thenReturn(expectedSummaries);
+
+        List<ProjectSummary> actualSummaries = controller.getProjectSummaries();
+
+        assertEquals(expectedSummaries, actualSummaries);
+    }
+
+    // searchProjects
+
+    @Test
+    void search_projects_returns_page_from_search_index() {
+        ProjectSearchPage expectedPage = new ProjectSearchPage(new LinkedList<>(), 0);
+        when(mockedSearchIndex.search("meatbol", 0, 20)).thenReturn(expectedPage);
+
+        assertSame(expectedPage, controller.searchProjects("meatbol", 0, 20));
+    }
+
+    @Test
+    void search_projects_clamps_offset_and_limit() {
+        controller.searchProjects("meatbol", -5, 1000);
+
+        verify(mockedSearchIndex).search("meatbol", 0, 100);
+    }
+
+    // exportProjects
+
+    @Test
+    void export_projects_returns_ndjson() {
+        ResponseEntity<StreamingResponseBody> response = controller.exportProjects();
+
+        assertEquals(MediaType.parseMediaType("application/x-ndjson"), response.getHeaders().getContentType());
+    }
+
+    @Test
+    void export_projects_writes_projects_with_exporter() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        controller.exportProjects().getBody().writeTo(outputStream);
+
+        verify(mockedProjectExporter).export(outputStream);
+    }
+
+    // streamProjectChanges
+
+    @Test
+    void stream_project_changes_returns_emitter_of_new_subscription() {
+        SseEmitter emitter = new SseEmitter();
+        when(mockedEventStream.subscribe()).thenReturn(emitter);
+
+        assertSame(emitter, controller.streamProjectChanges());
     }
 
+    // getProjectPage
+
     @Test
-    void get_all_projects_returns_all_projects() {
+    void get_project_page_returns_all_projects_without_next_cursor_when_they_fit_in_one_page() {
         List<Project> expectedProjectList = createDummyProjectList();
-        mockFindAll(expectedProjectList);
-        List<Project> actualProjectList = controller.getAllProjects();
-        assertEquals(expectedProjectList, actualProjectList);
+        mockFindFirstPage(expectedProjectList);
+
+        ProjectPage page = controller.getProjectPage(10, null);
+
+        assertEquals(expectedProjectList, page.getItems());
+        assertNull(page.getNext());
+    }
+
+    @Test
+    void get_project_page_returns_limited_items_and_next_cursor_when_more_projects_exist() {
+        List<Project> dummyProjectList = createDummyProjectList();
+        mockFindFirstPage(dummyProjectList);
+
+        ProjectPage page = controller.getProjectPage(2, null);
+
+        assertEquals(dummyProjectList.subList(0, 2), page.getItems());
+        assertEquals(ProjectCursor.after(dummyProjectList.get(1)), ProjectCursor.decode(page.getNext()));
+    }
+
+    @Test
+    void get_project_page_continues_after_cursor() {
+        List<Project> dummyProjectList = createDummyProjectList();
+        Project last = dummyProjectList.get(1);
+        List<Project> remainingProjects = dummyProjectList.subList(2, 3);
+        when(mockedRepository.findPageAfter(eq(last.getLastModified()), eq(last.getId()), any(Pageable.class)))
+                .thenReturn(remainingProjects);
+
+        ProjectPage page = controller.getProjectPage(2, ProjectCursor.after(last).encode());
+
+        assertEquals(remainingProjects, page.getItems());
+        assertNull(page.getNext());
+    }
+
+    @Test
+    void get_project_page_throws_invalid_cursor_exception_when_cursor_is_malformed() {
+        assertThrows(InvalidCursorException.class, () -> controller.getProjectPage(2, "not a cursor"));
+    }
+
+    // getProjectChanges
+
+    @Test
+    void get_project_changes_returns_all_projects_as_reset_when_since_is_missing() {
+        List<Project> dummyProjectList = createDummyProjectList();
+        mockFindAll(dummyProjectList);
+
+        ProjectChanges changes = controller.getProjectChanges(null);
+
+        assertTrue(changes.isReset());
+        assertEquals(dummyProjectList, changes.getChanged());
+        assertTrue(changes.getDeleted().isEmpty());
+    }
+
+    @Test
+    void get_project_changes_returns_all_projects_as_reset_when_since_is_older_than_tombstone_retention() {
+        List<Project> dummyProjectList = createDummyProjectList();
+        mockFindAll(dummyProjectList);
+        long expired = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(TOMBSTONE_RETENTION_IN_DAYS + 1);
+
+        ProjectChanges changes = controller.getProjectChanges(new ProjectSyncToken(new Date(expired)).encode());
+
+        assertTrue(changes.isReset());
+        assertEquals(dummyProjectList, changes.getChanged());
+        verify(mockedTombstoneRepository, never()).findProjectIdsDeletedSince(any());
+    }
+
+    @Test
+    void get_project_changes_returns_projects_changed_and_deleted_since_token() {
+        Date since = new Date(System.currentTimeMillis() - 60000);
+        List<Project> changedProjects = createDummyProjectList().subList(0, 1);
+        when(mockedRepository.findChangedSince(since)).thenReturn(changedProjects);
+        when(mockedTombstoneRepository.findProjectIdsDeletedSince(since)).thenReturn(Collections.singletonList(42L));
+
+        ProjectChanges changes = controller.getProjectChanges(new ProjectSyncToken(since).encode());
+
+        assertFalse(changes.isReset());
+        assertEquals(changedProjects, changes.getChanged());
+        assertEquals(Collections.singletonList(42L), changes.getDeleted());
+    }
+
+    @Test
+    void get_project_changes_returns_token_that_overlaps_recent_changes() {
+        long before = System.currentTimeMillis();
+
+        ProjectChanges changes = controller.getProjectChanges(null);
+
+        long tokenTime = ProjectSyncToken.decode(changes.getToken()).getSince().getTime();
+        assertTrue(tokenTime >= before - CHANGES_OVERLAP_IN_MILLISECONDS);
+        assertTrue(tokenTime <= System.currentTimeMillis() - CHANGES_OVERLAP_IN_MILLISECONDS);
+    }
+
+    @Test
+    void get_project_changes_throws_invalid_sync_token_exception_when_token_is_malformed() {
+        assertThrows(InvalidSyncTokenException.class, () -> controller.getProjectChanges("not a token"));
     }
 
     // getProjectById
@@ -54,7 +306,7 @@ class ProjectControllerTest {
     @Test
     void get_project_by_id_throws_project_not_found_exception_when_project_not_in_repository() {
         mockFindById(new LinkedList<>());
-        assertThrows(ProjectNotFoundException.class, () -> controller.getProjectById(0));
+        assertThrows(ProjectNotFoundException.class, () -> controller.getProjectById(0, null));
     }
 
     @Test
@@ -63,7 +315,7 @@ class ProjectControllerTest {
         mockFindById(dummyProjectList);
 
         Project project = dummyProjectList.get(0);
-        assertDoesNotThrow(() -> controller.getProjectById(project.getId()));
+        assertDoesNotThrow(() -> controller.getProjectById(project.getId(), null));
     }
 
     @Test
@@ -72,10 +324,37 @@ class ProjectControllerTest {
         mockFindById(dummyProjectList);
 
         Project expectedProject = dummyProjectList.get(0);
-        Project actualProject = controller.getProjectById(expectedProject.getId());
+        Project actualProject = controller.getProjectById(expectedProject.getId(), null).getBody();
         assertEquals(expectedProject, actualProject);
     }
 
+    @Test
+    void get_project_by_id_sets_etag_and_last_modified_from_project() {
+        List<Project> dummyProjectList = createDummyProjectList();
+        mockFindById(dummyProjectList);
+
+        Project project = dummyProjectList.get(0);
+        long lastModified = project.getLastModified().getTime();
+        ResponseEntity<Project> response = controller.getProjectById(project.getId(), null);
+
+        assertEquals("\"" + project.getId() + "-" + lastModified + "\"", response.getHeaders().getETag());
+        assertEquals(lastModified, response.getHeaders().getLastModified());
+    }
+
+    @Test
+    void get_project_by_id_loads_details_when_detailed_description_is_included() {
+        List<Project> dummyProjectList = createDummyProjectList();
+        mockFindById(dummyProjectList);
+
+        Project project = dummyProjectList.get(0);
+        long lastModified = project.getLastModified().getTime();
+        ResponseEntity<Project> response = controller.getProjectById(project.getId(), Collections.singleton("detailedDescription"));
+
+        verify(mockedRepository).findWithDetailsById(project.getId());
+        verify(mockedRepository, never()).findById(project.getId());
+        assertEquals("\"" + project.getId() + "-" + lastModified + "-details\"", response.getHeaders().getETag());
+    }
+
     // createProject
 
     @Test
@@ -103,6 +382,114 @@ class ProjectControllerTest {
         assertEquals(expectedProjectList, actualProjectList);
     }
 
+    @Test
+    void create_project_resolves_sources_before_saving() {
+        mockSave(new LinkedList<>());
+        Project dummyProject = createDummyProject();
+
+        controller.createProject(dummyProject);
+
+        verify(mockedSourceResolver).resolveSources(Collections.singletonList(dummyProject));
+    }
+
+    @Test
+    void create_project_publishes_created_event() {
+        mockSave(new LinkedList<>());
+        Project dummyProject = createDummyProject();
+
+        controller.createProject(dummyProject);
+
+        verify(mockedEventPublisher).publishEvent(
+                new ProjectChangedEvent(ProjectChangedEvent.Type.CREATED, dummyProject.getId()));
+    }
+
+    // createProjects
+
+    @Test
+    void create_projects_saves_all_valid_projects_in_one_call() {
+        mockSaveAll();
+        List<Project> projects = createNewProjectList("Meatbol Interpreter", "PC Wonder");
+
+        controller.createProjects(projects);
+
+        verify(mockedRepository).saveAll(projects);
+        verify(mockedRepository, never()).save(any(Project.class));
+    }
+
+    @Test
+    void create_projects_returns_created_result_for_each_saved_project() {
+        mockSaveAll();
+        List<Project> projects = createNewProjectList("Meatbol Interpreter", "PC Wonder");
+
+        List<ProjectBatchResult> results = controller.createProjects(projects);
+
+        assertEquals(2, results.size());
+        assertEquals(ProjectBatchResult.created(0, 100), results.get(0));
+        assertEquals(ProjectBatchResult.created(1, 101), results.get(1));
+    }
+
+    @Test
+    void create_projects_rejects_invalid_projects_and_saves_the_rest() {
+        mockSaveAll();
+        List<Project> projects = createNewProjectList("Meatbol Interpreter", " ", "PC Wonder");
+        projects.get(2).setId(7);
+
+        List<ProjectBatchResult> results = controller.createProjects(projects);
+
+        assertEquals(ProjectBatchResult.Status.CREATED, results.get(0).getStatus());
+        assertEquals(ProjectBatchResult.rejected(1, "Project name must not be empty"), results.get(1));
+        assertEquals(ProjectBatchResult.rejected(2, "Project id must not be set"), results.get(2));
+        verify(mockedRepository).saveAll(Collections.singletonList(projects.get(0)));
+    }
+
+    @Test
+    void create_projects_does_not_save_when_every_project_is_rejected() {
+        List<Project> projects = createNewProjectList(" ");
+
+        List<ProjectBatchResult> results = controller.createProjects(projects);
+
+        assertEquals(ProjectBatchResult.Status.REJECTED, results.get(0).getStatus());
+        verify(mockedRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void create_projects_publishes_created_event_for_each_saved_project() {
+        mockSaveAll();
+
+        controller.createProjects(createNewProjectList("Meatbol Interpreter", "PC Wonder"));
+
+        verify(mockedEventPublisher).publishEvent(new ProjectChangedEvent(ProjectChangedEvent.Type.CREATED, 100));
+        verify(mockedEventPublisher).publishEvent(new ProjectChangedEvent(ProjectChangedEvent.Type.CREATED, 101));
+    }
+
+    @Test
+    void create_projects_throws_batch_too_large_exception_when_batch_exceeds_max_size() {
+        ReflectionTestUtils.setField(controller, "maxBatchSize", 1);
+        List<Project> projects = createNewProjectList("Meatbol Interpreter", "PC Wonder");
+
+        assertThrows(BatchTooLargeException.class, () -> controller.createProjects(projects));
+        verify(mockedRepository, never()).saveAll(any());
+    }
+
+    // importProjects
+
+    @Test
+    void import_projects_returns_ndjson() {
+        ResponseEntity<StreamingResponseBody> response = controller.importProjects(new ByteArrayInputStream(new byte[0]));
+
+        assertEquals(MediaType.parseMediaType("application/x-ndjson"), response.getHeaders().getContentType());
+    }
+
+    @Test
+    void import_projects_reads_request_body_with_importer() throws IOException {
+        ByteArrayInputStream inputStream = new ByteArrayInputStream(new byte[0]);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        controller.importProjects(inputStream).getBody().writeTo(outputStream);
+
+        verify(mockedProjectImporter).importProjects(inputStream, outputStream);
+    }
+
     // addSourceToProject
 
     @Test
@@ -153,6 +540,49 @@ class ProjectControllerTest {
         assert project.getSources().contains(dummySource);
     }
 
+    @Test
+    void add_source_to_project_adds_existing_source_with_same_url() {
+        List<Project> dummyProjectList = createDummyProjectList();
+        mockFindById(dummyProjectList);
+        mockSave(dummyProjectList);
+
+        Source postedSource = createDummySource();
+        Source existingSource = createDummySource();
+        existingSource.setId(42);
+        when(mockedSourceResolver.getOrCreate(postedSource)).thenReturn(existingSource);
+
+        Project project = controller.addSourceToProject(postedSource, dummyProjectList.get(0).getId());
+
+        assertTrue(project.getSources().contains(existingSource));
+        assertFalse(project.getSources().contains(postedSource));
+    }
+
+    @Test
+    void add_source_to_project_updates_last_modified() {
+        List<Project> dummyProjectList = createDummyProjectList();
+        mockFindById(dummyProjectList);
+        mockSave(dummyProjectList);
+
+        Project project = dummyProjectList.get(0);
+        long previousLastModified = project.getLastModified().getTime();
+        controller.addSourceToProject(createDummySource(), project.getId());
+
+        assert project.getLastModified().getTime() > previousLastModified;
+    }
+
+    @Test
+    void add_source_to_project_publishes_updated_event() {
+        List<Project> dummyProjectList = createDummyProjectList();
+        mockFindById(dummyProjectList);
+        mockSave(dummyProjectList);
+
+        Project project = dummyProjectList.get(0);
+        controller.addSourceToProject(createDummySource(), project.getId());
+
+        verify(mockedEventPublisher).publishEvent(
+                new ProjectChangedEvent(ProjectChangedEvent.Type.UPDATED, project.getId()));
+    }
+
     // removeSourceFromProject
 
     @Test
@@ -206,42 +636,134 @@ class ProjectControllerTest {
         assertEquals(expectedProject, actualProject);
     }
 
-    // deleteProject
-
     @Test
-    void delete_project_removes_project_from_repository() {
+    void remove_source_from_project_removes_source_with_same_id_when_other_fields_differ() {
         List<Project> dummyProjectList = createDummyProjectList();
-        mockFindAll(dummyProjectList);
         mockFindById(dummyProjectList);
-        mockDelete(dummyProjectList);
+        mockSave(dummyProjectList);
 
-        Project dummyProject = dummyProjectList.get(0);
+        List<Source> dummySourceList = createDummySourceList();
+        Project project = dummyProjectList.get(0);
+        project.setSources(new HashSet<>(dummySourceList));
 
-        List<Project> expectedProjectList = new LinkedList<>(dummyProjectList);
-        expectedProjectList.remove(dummyProject);
+        Source staleSource = new Source();
+        staleSource.setId(dummySourceList.get(0).getId());
+        staleSource.setName("Renamed");
+        Project actualProject = controller.removeSourceFromProject(staleSource, project.getId());
 
-        controller.deleteProject(dummyProject.getId());
-        List<Project> actualProjectList = mockedRepository.findAll();
+        assertFalse(actualProject.getSources().contains(dummySourceList.get(0)));
+        assertEquals(dummySourceList.size() - 1, actualProject.getSources().size());
+    }
 
-        assertEquals(expectedProjectList, actualProjectList);
+    // changeProjectSources
+
+    @Test
+    void change_project_sources_returns_result_of_source_linker() {
+        ProjectSourceChanges changes = new ProjectSourceChanges();
+        changes.getAdd().add(1L);
+        ProjectSourceChangeResult expectedResult = new ProjectSourceChangeResult(1, 0);
+        when(mockedSourceLinker.changeSources(7, changes)).thenReturn(expectedResult);
+
+        assertEquals(expectedResult, controller.changeProjectSources(changes, 7));
+    }
+
+    @Test
+    void change_project_sources_publishes_updated_event() {
+        ProjectSourceChanges changes = new ProjectSourceChanges();
+        changes.getRemove().add(1L);
+
+        controller.changeProjectSources(changes, 7);
+
+        verify(mockedEventPublisher).publishEvent(new ProjectChangedEvent(ProjectChangedEvent.Type.UPDATED, 7));
+    }
+
+    @Test
+    void change_project_sources_does_not_publish_event_when_there_are_no_changes() {
+        controller.changeProjectSources(new ProjectSourceChanges(), 7);
+
+        verify(mockedEventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void change_project_sources_treats_null_lists_as_empty() {
+        ProjectSourceChanges changes = new ProjectSourceChanges();
+        changes.setAdd(null);
+        changes.setRemove(null);
+
+        controller.changeProjectSources(changes, 7);
+
+        verify(mockedSourceLinker).changeSources(7, changes);
+        assertTrue(changes.getAdd().isEmpty());
+        assertTrue(changes.getRemove().isEmpty());
+    }
+
+    @Test
+    void change_project_sources_throws_batch_too_large_exception_when_over_max_batch_size() {
+        ProjectSourceChanges changes = new ProjectSourceChanges();
+        for (long i = 0; i <= MAX_BATCH_SIZE; i++) {
+            changes.getAdd().add(i);
+        }
+
+        assertThrows(BatchTooLargeException.class, () -> controller.changeProjectSources(changes, 7));
+        verify(mockedSourceLinker, never()).changeSources(eq(7L), any());
+    }
+
+    // deleteProject
+
+    @Test
+    void delete_project_deletes_project_through_project_deleter() {
+        controller.deleteProject(3);
+
+        verify(mockedProjectDeleter).deleteProject(3);
+    }
+
+    @Test
+    void delete_project_publishes_deleted_event() {
+        controller.deleteProject(3);
+
+        verify(mockedEventPublisher).publishEvent(new ProjectChangedEvent(ProjectChangedEvent.Type.DELETED, 3));
+    }
+
+    @Test
+    void delete_project_does_not_publish_event_when_project_does_not_exist() {
+        doThrow(new ProjectNotFoundException(3)).when(mockedProjectDeleter).deleteProject(3);
+
+        assertThrows(ProjectNotFoundException.class, () -> controller.deleteProject(3));
+        verify(mockedEventPublisher, never()).publishEvent(any());
     }
 
     // helper functions
 
+    private ProjectListSnapshot mockSnapshot(String json) {
+        ProjectListSnapshot snapshot = new ProjectListSnapshot(json.getBytes(StandardCharsets.UTF_8), 1592611200000L);
+        when(mockedSnapshotCache.getSnapshot()).thenReturn(snapshot);
+        return snapshot;
+    }
+
     private void mockFindAll(List<Project> projectList) {
         when(mockedRepository.findAll()).thenReturn(projectList);
         when(mockedRepository.findAllByOrderByLastModifiedDesc()).thenReturn(projectList);
     }
 
-    private void mockFindById(List<Project> projectList) {
-        when(mockedRepository.findById(any(Long.class)))
+    private void mockFindFirstPage(List<Project> projectList) {
+        when(mockedRepository.findFirstPage(any(Pageable.class)))
                 .thenAnswer(invocationOnMock -> {
-                    long id = invocationOnMock.getArgument(0);
-                    Project foundProject = findProjectInListById(projectList, id);
-                    return Optional.ofNullable(foundProject);
+                    Pageable pageable = invocationOnMock.getArgument(0);
+                    return projectList.subList(0, Math.min(pageable.getPageSize(), projectList.size()));
                 });
     }
 
+    private void mockFindById(List<Project> projectList) {
+        Answer<Optional<Project>> findInList = invocationOnMock -> {
+            long id = invocationOnMock.getArgument(0);
+            Project foundProject = findProjectInListById(projectList, id);
+            return Optional.ofNullable(foundProject);
+        };
+        when(mockedRepository.findById(any(Long.class))).thenAnswer(findInList);
+        when(mockedRepository.findUncachedById(any(Long.class))).thenAnswer(findInList);
+        when(mockedRepository.findWithDetailsById(any(Long.class))).thenAnswer(findInList);
+    }
+
     private void mockSave(List<Project> projectList) {
         when(mockedRepository.save(any(Project.class)))
                 .thenAnswer((Answer<Project>) invocationOnMock -> {
@@ -251,12 +773,15 @@ class ProjectControllerTest {
                 });
     }
 
-    private void mockDelete(List<Project> projectList) {
-        doAnswer((Answer<List<Project>>) invocationOnMock -> {
-            Project project = invocationOnMock.getArgument(0);
-            projectList.remove(project);
-            return projectList;
-        }).when(mockedRepository).delete(any(Project.class));
+    private void mockSaveAll() {
+        when(mockedRepository.saveAll(any()))
+                .thenAnswer(invocationOnMock -> {
+                    List<Project> projects = invocationOnMock.getArgument(0);
+                    for (int i = 0; i < projects.size(); i++) {
+                        projects.get(i).setId(100 + i);
+                    }
+                    return projects;
+                });
     }
 
     private Project createDummyProject() {
@@ -271,6 +796,16 @@ class ProjectControllerTest {
         return dummyProject;
     }
 
+    private List<Project> createNewProjectList(String... names) {
+        List<Project> projects = new ArrayList<>();
+        for (String name : names) {
+            Project project = new Project();
+            project.setName(name);
+            projects.add(project);
+        }
+        return projects;
+    }
+
     private List<Project> createDummyProjectList() {
         Project meatbol = new Project();
         meatbol.setId(0);
@@ -0,0 +1,48 @@
+package com.masonpohler.api.projects;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+@Import(ProjectDeleter.class)
+class ProjectDeleterTest {
+
+    @Autowired
+    private ProjectDeleter projectDeleter;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private ProjectTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    // deleteProject
+
+    @Test
+    void delete_project_removes_project_and_records_tombstone() {
+        Project project = new Project();
+        project.setName("Projects API");
+        long id = entityManager.persistAndFlush(project).getId();
+        entityManager.clear();
+
+        projectDeleter.deleteProject(id);
+
+        assertFalse(projectRepository.existsById(id));
+        ProjectTombstone tombstone = tombstoneRepository.findById(id).orElseThrow(AssertionError::new);
+        assertNotNull(tombstone.getDeletedAt());
+    }
+
+    @Test
+    void delete_project_throws_project_not_found_exception_when_project_does_not_exist() {
+        assertThrows(ProjectNotFoundException.class, () -> projectDeleter.deleteProject(-1));
+        assertEquals(0, tombstoneRepository.count());
+    }
+}
@@ -0,0 +1,99 @@
+package com.masonpohler.api.projects;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectEventStreamTest {
+    private static final int MAX_SUBSCRIBERS = 2;
+    private static final long SEND_TIMEOUT_IN_MILLISECONDS = 200;
+
+    private ProjectEventStream eventStream;
+
+    @BeforeEach
+    void set_up() {
+        eventStream = new ProjectEventStream(4, MAX_SUBSCRIBERS, 60000, 0, 1, SEND_TIMEOUT_IN_MILLISECONDS);
+    }
+
+    @AfterEach
+    void tear_down() {
+        eventStream.shutdown();
+    }
+
+    // subscribe
+
+    @Test
+    void subscribe_adds_subscriber() {
+        eventStream.subscribe();
+
+        assertEquals(1, eventStream.getSubscriberCount());
+    }
+
+    @Test
+    void subscribe_throws_too_many_subscribers_exception_when_at_max_subscribers() {
+        for (int i = 0; i < MAX_SUBSCRIBERS; i++) {
+            eventStream.subscribe();
+        }
+
+        assertThrows(TooManySubscribersException.class, () -> eventStream.subscribe());
+    }
+
+    // onProjectChanged
+
+    @Test
+    void on_project_changed_does_not_throw_when_subscriber_is_not_connected_yet() {
+        SseEmitter emitter = eventStream.subscribe();
+
+        assertDoesNotThrow(() -> eventStream.onProjectChanged(new ProjectChangedEvent(ProjectChangedEvent.Type.CREATED, 1)));
+        emitter.complete();
+    }
+
+    // evictStuckSubscribers
+
+    @Test
+    void subscriber_blocked_in_send_is_evicted_without_stalling_other_subscribers() throws InterruptedException {
+        BlockingEmitter stuckEmitter = new BlockingEmitter();
+        BlockingEmitter healthyEmitter = new BlockingEmitter();
+        healthyEmitter.release.countDown();
+        try {
+            eventStream.subscribe(stuckEmitter);
+            eventStream.onProjectChanged(new ProjectChangedEvent(ProjectChangedEvent.Type.CREATED, 1));
+            assertTrue(stuckEmitter.sendStarted.await(5, TimeUnit.SECONDS));
+
+            // The only sender thread is now blocked in the stuck subscriber's send
+            eventStream.subscribe(healthyEmitter);
+            eventStream.onProjectChanged(new ProjectChangedEvent(ProjectChangedEvent.Type.CREATED, 2));
+
+            assertTrue(healthyEmitter.sendStarted.await(5, TimeUnit.SECONDS));
+            assertEquals(1, eventStream.getSubscriberCount());
+        } finally {
+            stuckEmitter.release.countDown();
+        }
+    }
+
+    private static class BlockingEmitter extends SseEmitter {
+        private final CountDownLatch sendStarted = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            sendStarted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.masonpohler.api.projects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masonpohler.api.source.Source;
+import com.masonpohler.api.source.SourceRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// The export reads on its own connection, so the projects are committed rather than left in a test transaction
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:export;DB_CLOSE_DELAY=-1",
+        "spring.datasource.driverClassName=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ProjectExporter.class, LazyAttributeModule.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProjectExporterTest {
+    // Two full chunks and a partial one with the default fetch size
+    private static final int FETCH_SIZE = 500;
+    private static final int PROJECT_COUNT = 2 * FETCH_SIZE + 30;
+    private static final int SOURCES_PER_PROJECT = 2;
+    private static final String DETAILED_DESCRIPTION = "A very long detailed description.";
+
+    @Autowired
+    private ProjectExporter projectExporter;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private SourceRepository sourceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void set_up() {
+        new TransactionTemplate(transactionManager).execute(status -> {
+            persistProjects();
+            return null;
+        });
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tear_down() {
+        projectRepository.deleteAll();
+        sourceRepository.deleteAll();
+    }
+
+    private void persistProjects() {
+        for (int i = 0; i < PROJECT_COUNT; i++) {
+            Project project = new Project();
+            project.setName("Project " + i);
+            project.setDetailedDescription(DETAILED_DESCRIPTION);
+            for (int j = 0; j < SOURCES_PER_PROJECT; j++) {
+                Source source = new Source();
+                source.setName("Source " + i + "-" + j);
+                project.getSources().add(source);
+            }
+            entityManager.persist(project);
+        }
+    }
+
+    @Test
+    void export_writes_one_json_line_per_project() throws IOException {
+        String[] lines = export().split("\n");
+
+        assertEquals(PROJECT_COUNT, lines.length);
+        for (int i = 0; i < PROJECT_COUNT; i++) {
+            assertEquals("Project " + i, objectMapper.readTree(lines[i]).get("name").asText());
+        }
+    }
+
+    @Test
+    void export_ends_every_line_with_a_line_separator() throws IOException {
+        assertTrue(export().endsWith("}\n"));
+    }
+
+    @Test
+    void export_inlines_sources_and_detailed_description() throws IOException {
+        for (String line : export().split("\n")) {
+            JsonNode project = objectMapper.readTree(line);
+            assertEquals(SOURCES_PER_PROJECT, project.get("sources").size());
+            assertEquals(DETAILED_DESCRIPTION, project.get("detailedDescription").asText());
+        }
+    }
+
+    @Test
+    void export_loads_sources_once_per_chunk() throws IOException {
+        export();
+
+        int chunkCount = (PROJECT_COUNT + FETCH_SIZE - 1) / FETCH_SIZE;
+        assertEquals(1 + chunkCount, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void export_closes_the_session_it_reads_with() throws IOException {
+        export();
+
+        assertEquals(1, statistics.getSessionOpenCount());
+        assertEquals(1, statistics.getSessionCloseCount());
+    }
+
+    private String export() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        projectExporter.export(outputStream);
+        return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,270 @@
+package com.masonpohler.api.projects;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.masonpohler.api.source.Source;
+import com.masonpohler.api.source.SourceRepository;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.handler.WebRequestHandlerInterceptorAdapter;
+
+import javax.persistence.EntityManagerFactory;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "projects.import.chunk-size=2",
+        "projects.import.max-line-length=" + ProjectImporterTest.MAX_LINE_LENGTH
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ProjectImporter.class, SourceResolver.class, LazyAttributeModule.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProjectImporterTest {
+    static final int MAX_LINE_LENGTH = 1000;
+
+    @Autowired
+    private ProjectImporter projectImporter;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private SourceRepository sourceRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ManagedEntityRecorder managedEntityRecorder;
+
+    @AfterEach
+    void tear_down() {
+        projectRepository.deleteAll();
+        sourceRepository.deleteAll();
+    }
+
+    @Test
+    void import_projects_saves_every_valid_line() throws IOException {
+        List<JsonNode> statuses = importProjects(
+                "{\"name\":\"Meatbol Interpreter\"}",
+                "{\"name\":\"PC Wonder\"}",
+                "{\"name\":\"Projects API\"}"
+        );
+
+        assertEquals(3, projectRepository.count());
+        JsonNode complete = statuses.get(statuses.size() - 1);
+        assertEquals("COMPLETE", complete.get("type").asText());
+        assertEquals(3, complete.get("imported").asLong());
+        assertEquals(0, complete.get("rejected").asLong());
+    }
+
+    @Test
+    void import_projects_reports_progress_after_each_committed_chunk() throws IOException {
+        List<JsonNode> statuses = importProjects(
+                "{\"name\":\"Meatbol Interpreter\"}",
+                "{\"name\":\"PC Wonder\"}",
+                "{\"name\":\"Projects API\"}",
+                "{\"name\":\"Portfolio\"}",
+                "{\"name\":\"Mason Pohler\"}"
+        );
+
+        List<JsonNode> progress = filterByType(statuses, "PROGRESS");
+        assertEquals(2, progress.size());
+        assertEquals(2, progress.get(0).get("imported").asLong());
+        assertEquals(4, progress.get(1).get("line").asLong());
+    }
+
+    @Test
+    void import_projects_reports_malformed_and_invalid_lines_and_continues() throws IOException {
+        List<JsonNode> statuses = importProjects(
+                "{\"name\":\"Meatbol Interpreter\"}",
+                "{\"name\":",
+                "{\"description\":\"No name.\"}",
+                "",
+                "{\"name\":\"PC Wonder\"}"
+        );
+
+        List<JsonNode> errors = filterByType(statuses, "ERROR");
+        assertEquals(2, errors.size());
+        assertEquals(2, errors.get(0).get("line").asLong());
+        assertEquals(3, errors.get(1).get("line").asLong());
+        assertEquals("Project name must not be empty", errors.get(1).get("error").asText());
+        assertEquals(2, projectRepository.count());
+    }
+
+    @Test
+    void import_projects_reports_lines_longer_than_max_line_length_and_continues() throws IOException {
+        StringBuilder longDescription = new StringBuilder();
+        for (int i = 0; i < MAX_LINE_LENGTH; i++) {
+            longDescription.append('x');
+        }
+
+        List<JsonNode> statuses = importProjects(
+                "{\"name\":\"Meatbol Interpreter\",\"detailedDescription\":\"" + longDescription + "\"}",
+                "{\"name\":\"PC Wonder\"}"
+        );
+
+        List<JsonNode> errors = filterByType(statuses, "ERROR");
+        assertEquals(1, errors.size());
+        assertEquals(1, errors.get(0).get("line").asLong());
+        assertEquals("Line is longer than " + MAX_LINE_LENGTH + " characters", errors.get(0).get("error").asText());
+        assertEquals(1, projectRepository.count());
+    }
+
+    @Test
+    void import_projects_ignores_ids_in_input() throws IOException {
+        importProjects("{\"id\":12345,\"name\":\"Meatbol Interpreter\",\"sources\":[{\"id\":678,\"name\":\"GitHub\",\"url\":\"https://github.com/meatbol\"}]}");
+
+        assertEquals(1, projectRepository.count());
+        assertEquals(1, sourceRepository.count());
+    }
+
+    @Test
+    void import_projects_reuses_existing_source_with_same_url() throws IOException {
+        Source existingSource = new Source();
+        existingSource.setName("GitHub");
+        existingSource.setUrl("https://github.com/mpohler1");
+        long existingSourceId = sourceRepository.save(existingSource).getId();
+
+        importProjects(
+                "{\"name\":\"Meatbol Interpreter\",\"sources\":[{\"name\":\"GitHub\",\"url\":\"https://github.com/mpohler1\"}]}",
+                "{\"name\":\"PC Wonder\",\"sources\":[{\"name\":\"Repository\",\"url\":\"https://github.com/mpohler1\"}]}"
+        );
+
+        assertEquals(1, sourceRepository.count());
+        assertEquals(existingSourceId, sourceRepository.findAll().get(0).getId());
+    }
+
+    @Test
+    void import_projects_creates_one_source_per_new_url_within_a_chunk() throws IOException {
+        importProjects(
+                "{\"name\":\"Meatbol Interpreter\",\"sources\":[{\"name\":\"GitHub\",\"url\":\"https://github.com/new\"}]}",
+                "{\"name\":\"PC Wonder\",\"sources\":[{\"name\":\"GitHub\",\"url\":\"https://github.com/new\"}]}"
+        );
+
+        assertEquals(1, sourceRepository.count());
+    }
+
+    @Test
+    void import_projects_reports_every_line_of_a_chunk_that_could_not_be_saved() throws IOException {
+        StringBuilder tooLongName = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            tooLongName.append('x');
+        }
+
+        List<JsonNode> statuses = importProjects(
+                "{\"name\":\"Meatbol Interpreter\"}",
+                "{\"name\":\"" + tooLongName + "\"}",
+                "{\"name\":\"PC Wonder\"}"
+        );
+
+        List<JsonNode> errors = filterByType(statuses, "ERROR");
+        assertEquals(2, errors.size());
+        assertEquals(1, errors.get(0).get("line").asLong());
+        assertEquals(2, errors.get(1).get("line").asLong());
+        assertEquals(1, projectRepository.count());
+
+        JsonNode complete = statuses.get(statuses.size() - 1);
+        assertEquals(1, complete.get("imported").asLong());
+        assertEquals(2, complete.get("rejected").asLong());
+    }
+
+    @Test
+    void import_projects_through_controller_does_not_keep_committed_chunks_in_open_in_view_session() throws Exception {
+        OpenEntityManagerInViewInterceptor openEntityManagerInView = new OpenEntityManagerInViewInterceptor();
+        openEntityManagerInView.setEntityManagerFactory(entityManagerFactory);
+        ProjectController controller = new ProjectController();
+        ReflectionTestUtils.setField(controller, "projectImporter", projectImporter);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addInterceptors(new WebRequestHandlerInterceptorAdapter(openEntityManagerInView))
+                .build();
+
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 8; i++) {
+            body.append("{\"name\":\"Project ").append(i).append("\",\"sources\":[{\"name\":\"GitHub\",\"url\":\"https://github.com/")
+                    .append(i).append("\"}]}\n");
+        }
+        MvcResult result = mockMvc.perform(post("/projects/import").content(body.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk());
+
+        assertEquals(8, projectRepository.count());
+        assertEquals(8, managedEntityRecorder.entityCounts.size());
+        for (int entityCount : managedEntityRecorder.entityCounts) {
+            assertEquals(0, entityCount);
+        }
+    }
+
+    private List<JsonNode> importProjects(String... lines) throws IOException {
+        byte[] input = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        projectImporter.importProjects(new ByteArrayInputStream(input), outputStream);
+
+        List<JsonNode> statuses = new ArrayList<>();
+        for (String line : new String(outputStream.toByteArray(), StandardCharsets.UTF_8).split("\n")) {
+            statuses.add(objectMapper.readTree(line));
+        }
+        return statuses;
+    }
+
+    private List<JsonNode> filterByType(List<JsonNode> statuses, String type) {
+        List<JsonNode> filtered = new ArrayList<>();
+        for (JsonNode status : statuses) {
+            if (type.equals(status.get("type").asText())) {
+                filtered.add(status);
+            }
+        }
+        return filtered;
+    }
+
+    @TestConfiguration
+    static class ManagedEntityRecorder {
+        private final List<Integer> entityCounts = new CopyOnWriteArrayList<>();
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        // Records how many entities the open-in-view session holds each time a project is announced
+        @EventListener
+        void onProjectChanged(ProjectChangedEvent event) {
+            EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(entityManagerFactory);
+            if (holder != null) {
+                entityCounts.add(holder.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.masonpohler.api.projects;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.util.StreamUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ProjectListSnapshotCacheTest {
+    private static final long MAX_AGE_IN_MILLISECONDS = 60000L;
+
+    @Mock
+    private ProjectRepository mockedRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @InjectMocks
+    private ProjectListSnapshotCache snapshotCache;
+
+    @BeforeEach
+    void set_up() {
+        MockitoAnnotations.initMocks(this);
+        ReflectionTestUtils.setField(snapshotCache, "maxAgeInMilliseconds", MAX_AGE_IN_MILLISECONDS);
+    }
+
+    @Test
+    void get_snapshot_returns_empty_json_list_when_there_are_no_projects() {
+        when(mockedRepository.findAllByOrderByLastModifiedDesc()).thenReturn(new LinkedList<>());
+
+        ProjectListSnapshot snapshot = snapshotCache.getSnapshot();
+
+        assertArrayEquals("[]".getBytes(), snapshot.getJson());
+    }
+
+    @Test
+    void get_snapshot_returns_serialized_project_list() throws IOException {
+        List<Project> projects = createDummyProjectList();
+        when(mockedRepository.findAllByOrderByLastModifiedDesc()).thenReturn(projects);
+
+        ProjectListSnapshot snapshot = snapshotCache.getSnapshot();
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(projects), snapshot.getJson());
+    }
+
+    @Test
+    void get_snapshot_returns_gzipped_copy_of_serialized_project_list() throws IOException {
+        when(mockedRepository.findAllByOrderByLastModifiedDesc()).thenReturn(createDummyProjectList());
+
+        ProjectListSnapshot snapshot = snapshotCache.getSnapshot();
+
+        assertArrayEquals(snapshot.getJson(), gunzip(snapshot.getGzippedJson()));
+    }
+
+    @Test
+    void get_snapshot_reuses_snapshot_until_it_is_rebuilt() {
+        when(mockedRepository.findAllByOrderByLastModifiedDesc()).thenReturn(createDummyProjectList());
+
+        ProjectListSnapshot first = snapshotCache.getSnapshot();
+        ProjectListSnapshot second = snapshotCache.getSnapshot();
+
+        assertSame(first, second);
+        verify(mockedRepository, times(1)).findAllByOrderByLastModifiedDesc();
+    }
+
+    @Test
+    void rebuild_replaces_snapshot_with_current_project_list() throws IOException {
+        when(mockedRepository.findAllByOrderByLastModifiedDesc()).thenReturn(new LinkedList<>());
+        snapshotCache.getSnapshot();
+
+        List<Project> projects = createDummyProjectList();
+        when(mockedRepository.findAllByOrderByLastModifiedDesc()).thenReturn(projects);
+        snapshotCache.rebuild();
+
+        assertArrayEquals(objectMapper.writeValueAsBytes(projects), snapshotCache.getSnapshot().getJson());
+    }
+
+    @Test
+    void rebuild_keeps_last_modified_while_project_list_is_unchanged() {
+        when(mockedRepository.findAllByOrderByLastModifiedDesc()).thenReturn(createDummyProjectList());
+        long lastModifiedBefore = snapshotCache.getSnapshot().getLastModified();
+
+        snapshotCache.rebuild();
+
+        assertEquals(lastModifiedBefore, snapshotCache.getSnapshot().getLastModified());
+    }
+
+    @Test
+    void rebuild_moves_last_modified_by_at_least_a_second_when_a_project_is_deleted() {
+        List<Project> projects = createDummyProjectList();
+        when(mockedRepository.findAllByOrderByLastModifiedDesc()).thenReturn(projects);
+        long lastModifiedBefore = snapshotCache.getSnapshot().getLastModified();
+
+        projects.remove(0);
+        snapshotCache.rebuild();
+
+        assertTrue(snapshotCache.getSnapshot().getLastModified() >= lastModifiedBefore + 1000L);
+    }
+
+    @Test
+    void get_all_projects_returns_projects_for_if_modified_since_after_a_project_is_deleted() throws Exception {
+        List<Project> projects = createDummyProjectList();
+        when(mockedRepository.findAllByOrderByLastModifiedDesc()).thenReturn(projects);
+        ProjectController controller = new ProjectController();
+        ReflectionTestUtils.setField(controller, "snapshotCache", snapshotCache);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        String lastModified = mockMvc.perform(get("/projects")).andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+        mockMvc.perform(get("/projects").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+
+        projects.remove(0);
+        snapshotCache.rebuild();
+
+        mockMvc.perform(get("/projects").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isOk());
+    }
+
+    private byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return StreamUtils.copyToByteArray(gzip);
+        }
+    }
+
+    private List<Project> createDummyProjectList() {
+        Project meatbol = new Project();
+        meatbol.setId(0);
+        meatbol.setName("Meatbol Interpreter");
+        meatbol.setDescription("Meatbol Interpreter.");
+
+        Project pcWonder = new Project();
+        pcWonder.setId(1);
+        pcWonder.setName("PC Wonder");
+        pcWonder.setDescription("Ecommerce Website.");
+
+        List<Project> dummyProjectList = new LinkedList<>();
+        dummyProjectList.add(meatbol);
+        dummyProjectList.add(pcWonder);
+        return dummyProjectList;
+    }
+}
@@ -0,0 +1,103 @@
+package com.masonpohler.api.projects;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.CacheManager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureCache(cacheProvider = CacheType.CAFFEINE)
+class ProjectRepositoryCacheTest {
+
+    @Autowired
+    private ProjectRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Statistics statistics;
+
+    private long projectId;
+
+    @BeforeEach
+    void set_up() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        Project project = new Project();
+        project.setName("Projects API");
+        projectId = entityManager.persistAndFlush(project).getId();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void find_by_id_is_served_from_cache_after_first_call() {
+        repository.findById(projectId);
+        repository.findById(projectId);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void find_all_by_order_by_last_modified_desc_is_served_from_cache_after_first_call() {
+        repository.findAllByOrderByLastModifiedDesc();
+        repository.findAllByOrderByLastModifiedDesc();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void save_evicts_cached_project_and_project_list() {
+        Project project = repository.findById(projectId).orElseThrow(AssertionError::new);
+        repository.findAllByOrderByLastModifiedDesc();
+
+        project.setName("Renamed");
+        repository.save(project);
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        assertEquals("Renamed", repository.findById(projectId).orElseThrow(AssertionError::new).getName());
+        repository.findAllByOrderByLastModifiedDesc();
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void delete_evicts_cached_project() {
+        Project project = repository.findById(projectId).orElseThrow(AssertionError::new);
+
+        repository.delete(project);
+        entityManager.flush();
+
+        assertFalse(repository.findById(projectId).isPresent());
+    }
+
+    @Test
+    void find_uncached_by_id_always_queries_database() {
+        repository.findUncachedById(projectId);
+        entityManager.clear();
+        repository.findUncachedById(projectId);
+
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+}
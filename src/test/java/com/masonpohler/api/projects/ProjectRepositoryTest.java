@@ -0,0 +1,226 @@
+package com.masonpohler.api.projects;
+
+import com.masonpohler.api.source.Source;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.masonpohler.api.projects.RecordingStatementInspector"
+})
+class ProjectRepositoryTest {
+    private static final int PROJECT_COUNT = 10;
+    private static final int SOURCES_PER_PROJECT = 3;
+    private static final String DETAILED_DESCRIPTION = "A very long detailed description.";
+    private static final String DETAILED_DESCRIPTION_COLUMN = "detailed_description";
+
+    @Autowired
+    private ProjectRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void set_up() {
+        for (int i = 0; i < PROJECT_COUNT; i++) {
+            Project project = new Project();
+            project.setName("Project " + i);
+            project.setDetailedDescription(DETAILED_DESCRIPTION);
+            for (int j = 0; j < SOURCES_PER_PROJECT; j++) {
+                Source source = new Source();
+                source.setName("Source " + i + "-" + j);
+                source.setUrl("https://example.com/" + i + "/" + j);
+                project.getSources().add(source);
+            }
+            entityManager.persist(project);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+        RecordingStatementInspector.clear();
+    }
+
+    @Test
+    void find_all_by_order_by_last_modified_desc_loads_projects_and_sources_in_one_query() {
+        List<Project> projects = repository.findAllByOrderByLastModifiedDesc();
+
+        assertEquals(PROJECT_COUNT, projects.size());
+        assertEquals(PROJECT_COUNT * SOURCES_PER_PROJECT, countSources(projects));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void find_by_id_loads_project_and_sources_in_one_query() {
+        long id = findAnyProjectId();
+
+        Project project = repository.findById(id).orElseThrow(AssertionError::new);
+
+        assertEquals(SOURCES_PER_PROJECT, project.getSources().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void find_by_id_does_not_select_detailed_description_column() {
+        long id = findAnyProjectId();
+
+        Project project = repository.findById(id).orElseThrow(AssertionError::new);
+
+        assertFalse(Hibernate.isPropertyInitialized(project, "detailedDescription"));
+        assertEquals(1, RecordingStatementInspector.getStatements().size());
+        assertFalse(RecordingStatementInspector.getStatements().get(0).contains(DETAILED_DESCRIPTION_COLUMN));
+    }
+
+    @Test
+    void find_by_id_loads_detailed_description_on_access() {
+        long id = findAnyProjectId();
+
+        Project project = repository.findById(id).orElseThrow(AssertionError::new);
+
+        assertEquals(DETAILED_DESCRIPTION, project.getDetailedDescription());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void find_with_details_by_id_selects_detailed_description_column() {
+        long id = findAnyProjectId();
+
+        Project project = repository.findWithDetailsById(id).orElseThrow(AssertionError::new);
+
+        assertTrue(Hibernate.isPropertyInitialized(project, "detailedDescription"));
+        assertEquals(DETAILED_DESCRIPTION, project.getDetailedDescription());
+        assertEquals(SOURCES_PER_PROJECT, project.getSources().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void find_with_details_by_id_in_loads_requested_projects_with_details_in_one_query() {
+        List<Long> ids = new ArrayList<>();
+        for (Project project : repository.findAll()) {
+            ids.add(project.getId());
+        }
+        entityManager.clear();
+        statistics.clear();
+
+        List<Project> projects = repository.findWithDetailsByIdIn(ids.subList(0, 2));
+
+        assertEquals(2, projects.size());
+        for (Project project : projects) {
+            assertEquals(DETAILED_DESCRIPTION, project.getDetailedDescription());
+            assertEquals(SOURCES_PER_PROJECT, project.getSources().size());
+        }
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void find_all_by_order_by_last_modified_desc_loads_detailed_description_in_same_query() {
+        List<Project> projects = repository.findAllByOrderByLastModifiedDesc();
+
+        for (Project project : projects) {
+            assertEquals(DETAILED_DESCRIPTION, project.getDetailedDescription());
+        }
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void find_first_page_loads_sources_of_whole_page_in_one_batch() {
+        List<Project> projects = repository.findFirstPage(PageRequest.of(0, PROJECT_COUNT));
+
+        assertEquals(PROJECT_COUNT, projects.size());
+        assertEquals(PROJECT_COUNT * SOURCES_PER_PROJECT, countSources(projects));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void find_all_projected_by_order_by_last_modified_desc_returns_summaries_in_one_query() {
+        List<ProjectSummary> summaries = repository.findAllProjectedByOrderByLastModifiedDesc();
+
+        assertEquals(PROJECT_COUNT, summaries.size());
+        for (ProjectSummary summary : summaries) {
+            assertTrue(summary.getName().startsWith("Project "));
+        }
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void find_changed_since_returns_only_projects_modified_at_or_after_since_with_sources() {
+        long id = findAnyProjectId();
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Project p SET p.lastModified = :lastModified")
+                .setParameter("lastModified", new Date(0))
+                .executeUpdate();
+        repository.updateLastModified(id, new Date(2000));
+        statistics.clear();
+
+        List<Project> projects = repository.findChangedSince(new Date(2000));
+
+        assertEquals(1, projects.size());
+        assertEquals(id, projects.get(0).getId());
+        assertEquals(SOURCES_PER_PROJECT, projects.get(0).getSources().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void save_all_batches_inserts_of_projects_and_sources() {
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < PROJECT_COUNT; i++) {
+            Project project = new Project();
+            project.setName("Batched Project " + i);
+            Source source = new Source();
+            source.setName("Batched Source " + i);
+            project.getSources().add(source);
+            projects.add(project);
+        }
+
+        repository.saveAll(projects);
+        entityManager.flush();
+
+        assertEquals(PROJECT_COUNT * 2, statistics.getEntityInsertCount());
+        assertEquals(3, countInsertStatements());
+    }
+
+    private long countInsertStatements() {
+        return RecordingStatementInspector.getStatements().stream()
+                .filter(statement -> statement.startsWith("insert"))
+                .count();
+    }
+
+    private long findAnyProjectId() {
+        long id = repository.findFirstPage(PageRequest.of(0, 1)).get(0).getId();
+        entityManager.clear();
+        statistics.clear();
+        RecordingStatementInspector.clear();
+        return id;
+    }
+
+    private int countSources(List<Project> projects) {
+        int count = 0;
+        for (Project project : projects) {
+            count += project.getSources().size();
+        }
+        return count;
+    }
+}
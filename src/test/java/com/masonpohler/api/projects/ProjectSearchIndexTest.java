@@ -0,0 +1,241 @@
+package com.masonpohler.api.projects;
+
+import com.masonpohler.api.source.Source;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ProjectSearchIndexTest {
+    private static final long MAX_AGE_IN_MILLISECONDS = 60000L;
+
+    @Mock
+    private ProjectRepository mockedRepository;
+
+    @InjectMocks
+    private ProjectSearchIndex searchIndex;
+
+    private Project meatbol;
+    private Project pcWonder;
+    private Project projectsApi;
+
+    @BeforeEach
+    void set_up() {
+        MockitoAnnotations.initMocks(this);
+        ReflectionTestUtils.setField(searchIndex, "maxAgeInMilliseconds", MAX_AGE_IN_MILLISECONDS);
+
+        meatbol = createProject(1, "Meatbol Interpreter", "An interpreter for the Meatbol language.", null, "GitHub");
+        pcWonder = createProject(2, "PC Wonder", "Ecommerce website for computer parts.", "Written in Java with Spring.", "GitHub");
+        projectsApi = createProject(3, "Projects API", "An API for projects.", "Written in Java.", "Docker Hub");
+
+        when(mockedRepository.findAllByOrderByLastModifiedDesc()).thenReturn(Arrays.asList(meatbol, pcWonder, projectsApi));
+        searchIndex.rebuild();
+    }
+
+    // search
+
+    @Test
+    void search_returns_empty_page_when_nothing_matches() {
+        ProjectSearchPage page = searchIndex.search("python", 0, 10);
+
+        assertEquals(0, page.getTotal());
+        assertTrue(page.getItems().isEmpty());
+    }
+
+    @Test
+    void search_matches_name_ignoring_case() {
+        ProjectSearchPage page = searchIndex.search("MEATBOL", 0, 10);
+
+        assertEquals(1, page.getTotal());
+        assertEquals(meatbol.getId(), page.getItems().get(0).getId());
+        assertEquals(meatbol.getName(), page.getItems().get(0).getName());
+    }
+
+    @Test
+    void search_matches_detailed_description_and_source_names() {
+        assertEquals(2, searchIndex.search("java", 0, 10).getTotal());
+        assertEquals(1, searchIndex.search("docker", 0, 10).getTotal());
+    }
+
+    @Test
+    void search_ranks_name_matches_above_description_matches() {
+        ProjectSearchPage page = searchIndex.search("projects", 0, 10);
+
+        assertEquals(projectsApi.getId(), page.getItems().get(0).getId());
+    }
+
+    @Test
+    void search_ranks_projects_matching_more_terms_first() {
+        ProjectSearchPage page = searchIndex.search("java spring", 0, 10);
+
+        assertEquals(2, page.getTotal());
+        assertEquals(pcWonder.getId(), page.getItems().get(0).getId());
+        assertTrue(page.getItems().get(0).getScore() > page.getItems().get(1).getScore());
+    }
+
+    @Test
+    void search_paginates_ranked_results() {
+        ProjectSearchPage page = searchIndex.search("github docker", 1, 1);
+
+        assertEquals(3, page.getTotal());
+        assertEquals(1, page.getItems().size());
+    }
+
+    @Test
+    void search_rebuilds_index_in_background_when_older_than_max_age() {
+        ReflectionTestUtils.setField(searchIndex, "maxAgeInMilliseconds", -1L);
+
+        searchIndex.search("meatbol", 0, 10);
+
+        verify(mockedRepository, timeout(5000).times(2)).findAllByOrderByLastModifiedDesc();
+    }
+
+    @Test
+    void search_does_not_rebuild_index_younger_than_max_age() {
+        searchIndex.search("meatbol", 0, 10);
+
+        verify(mockedRepository, times(1)).findAllByOrderByLastModifiedDesc();
+    }
+
+    // rebuild
+
+    @Test
+    void rebuild_keeps_project_created_while_projects_were_being_read() {
+        Project portfolio = createProject(4, "Portfolio", "A personal portfolio.", null, "GitHub");
+        when(mockedRepository.findWithDetailsByIdIn(anyCollection())).thenReturn(Collections.singletonList(portfolio));
+        when(mockedRepository.findAllByOrderByLastModifiedDesc()).thenAnswer(invocation -> {
+            searchIndex.onProjectChanged(new ProjectChangedEvent(ProjectChangedEvent.Type.CREATED, 4));
+            return Arrays.asList(meatbol, pcWonder, projectsApi);
+        });
+
+        searchIndex.rebuild();
+        searchIndex.refreshChanged();
+
+        assertEquals(1, searchIndex.search("portfolio", 0, 10).getTotal());
+    }
+
+    @Test
+    void rebuild_drops_project_deleted_while_projects_were_being_read() {
+        when(mockedRepository.findAllByOrderByLastModifiedDesc()).thenAnswer(invocation -> {
+            searchIndex.onProjectChanged(new ProjectChangedEvent(ProjectChangedEvent.Type.DELETED, 2));
+            return Arrays.asList(meatbol, pcWonder, projectsApi);
+        });
+
+        searchIndex.rebuild();
+        searchIndex.refreshChanged();
+
+        assertEquals(0, searchIndex.search("wonder", 0, 10).getTotal());
+    }
+
+    @Test
+    void rebuild_replaces_index_with_current_projects() {
+        when(mockedRepository.findAllByOrderByLastModifiedDesc()).thenReturn(Collections.singletonList(meatbol));
+
+        searchIndex.rebuild();
+
+        assertEquals(0, searchIndex.search("wonder", 0, 10).getTotal());
+        assertEquals(1, searchIndex.search("meatbol", 0, 10).getTotal());
+    }
+
+    // onProjectChanged
+
+    @Test
+    void on_project_changed_indexes_created_project() {
+        Project portfolio = createProject(4, "Portfolio", "A personal portfolio.", null, "GitHub");
+        when(mockedRepository.findWithDetailsByIdIn(anyCollection())).thenReturn(Collections.singletonList(portfolio));
+
+        searchIndex.onProjectChanged(new ProjectChangedEvent(ProjectChangedEvent.Type.CREATED, 4));
+        searchIndex.refreshChanged();
+
+        assertEquals(portfolio.getId(), searchIndex.search("portfolio", 0, 10).getItems().get(0).getId());
+    }
+
+    @Test
+    void on_project_changed_replaces_terms_of_updated_project() {
+        Project renamed = createProject(1, "Meatball Interpreter", "An interpreter.", null, "GitHub");
+        when(mockedRepository.findWithDetailsByIdIn(anyCollection())).thenReturn(Collections.singletonList(renamed));
+
+        searchIndex.onProjectChanged(new ProjectChangedEvent(ProjectChangedEvent.Type.UPDATED, 1));
+        searchIndex.refreshChanged();
+
+        assertEquals(0, searchIndex.search("meatbol", 0, 10).getTotal());
+        assertEquals(1, searchIndex.search("meatball", 0, 10).getTotal());
+    }
+
+    @Test
+    void on_project_changed_removes_deleted_project() {
+        searchIndex.onProjectChanged(new ProjectChangedEvent(ProjectChangedEvent.Type.DELETED, 2));
+
+        assertEquals(0, searchIndex.search("wonder", 0, 10).getTotal());
+        assertEquals(1, searchIndex.search("github", 0, 10).getTotal());
+    }
+
+    @Test
+    void on_project_changed_loads_changed_projects_off_the_publishing_thread_in_one_query() {
+        CompletableFuture<String> queryingThread = new CompletableFuture<>();
+        when(mockedRepository.findWithDetailsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            queryingThread.complete(Thread.currentThread().getName());
+            return Collections.emptyList();
+        });
+
+        searchIndex.onProjectChanged(new ProjectChangedEvent(ProjectChangedEvent.Type.UPDATED, 1));
+        searchIndex.onProjectChanged(new ProjectChangedEvent(ProjectChangedEvent.Type.UPDATED, 2));
+        searchIndex.onProjectChanged(new ProjectChangedEvent(ProjectChangedEvent.Type.UPDATED, 3));
+
+        assertEquals("project-search-refresh", queryingThread.join());
+        verify(mockedRepository, never()).findWithDetailsById(anyLong());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void refresh_changed_loads_all_changed_projects_with_one_query() {
+        // Holding the index's monitor keeps the background refresh from draining the ids first
+        synchronized (searchIndex) {
+            searchIndex.onProjectChanged(new ProjectChangedEvent(ProjectChangedEvent.Type.UPDATED, 1));
+            searchIndex.onProjectChanged(new ProjectChangedEvent(ProjectChangedEvent.Type.UPDATED, 3));
+            searchIndex.refreshChanged();
+        }
+
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(mockedRepository, times(1)).findWithDetailsByIdIn(ids.capture());
+        assertEquals(new HashSet<>(Arrays.asList(1L, 3L)), new HashSet<>(ids.getValue()));
+    }
+
+    // tokenize
+
+    @Test
+    void tokenize_splits_on_non_alphanumeric_characters_and_lowercases() {
+        assertEquals(Arrays.asList("pc", "wonder", "e", "commerce", "2020"), ProjectSearchIndex.tokenize("PC-Wonder: e_commerce (2020)"));
+    }
+
+    private Project createProject(long id, String name, String description, String detailedDescription, String sourceName) {
+        Project project = new Project();
+        project.setId(id);
+        project.setName(name);
+        project.setDescription(description);
+        project.setDetailedDescription(detailedDescription);
+
+        Source source = new Source();
+        source.setName(sourceName);
+        project.getSources().add(source);
+        return project;
+    }
+}
@@ -0,0 +1,158 @@
+package com.masonpohler.api.projects;
+
+import com.masonpohler.api.source.Source;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Import(ProjectSourceLinker.class)
+class ProjectSourceLinkerTest {
+
+    @Autowired
+    private ProjectSourceLinker sourceLinker;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    private long projectId;
+    private long attachedSourceId;
+    private long detachedSourceId;
+
+    @BeforeEach
+    void set_up() {
+        Source attachedSource = createSource("GitHub", "https://github.com/mpohler1");
+        Source detachedSource = createSource("Website", "https://masonpohler.com");
+        entityManager.persist(detachedSource);
+
+        Project project = new Project();
+        project.setName("Projects API");
+        project.getSources().add(attachedSource);
+        entityManager.persist(project);
+        entityManager.flush();
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Project p SET p.lastModified = :lastModified")
+                .setParameter("lastModified", new Date(0))
+                .executeUpdate();
+        entityManager.clear();
+
+        projectId = project.getId();
+        attachedSourceId = attachedSource.getId();
+        detachedSourceId = detachedSource.getId();
+
+        statistics = entityManager.getEntityManager()
+                .getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    // changeSources
+
+    @Test
+    void change_sources_attaches_sources_by_id() {
+        ProjectSourceChangeResult result = sourceLinker.changeSources(projectId, changes(Collections.singletonList(detachedSourceId), Collections.emptyList()));
+
+        assertEquals(new ProjectSourceChangeResult(1, 0), result);
+        assertEquals(new HashSet<>(Arrays.asList(attachedSourceId, detachedSourceId)), findSourceIds());
+    }
+
+    @Test
+    void change_sources_detaches_sources_by_id() {
+        ProjectSourceChangeResult result = sourceLinker.changeSources(projectId, changes(Collections.emptyList(), Collections.singletonList(attachedSourceId)));
+
+        assertEquals(new ProjectSourceChangeResult(0, 1), result);
+        assertTrue(findSourceIds().isEmpty());
+    }
+
+    @Test
+    void change_sources_skips_sources_that_are_already_attached_or_do_not_exist() {
+        ProjectSourceChangeResult result = sourceLinker.changeSources(projectId, changes(Arrays.asList(attachedSourceId, attachedSourceId, -1L), Collections.emptyList()));
+
+        assertEquals(new ProjectSourceChangeResult(0, 0), result);
+        assertEquals(Collections.singleton(attachedSourceId), findSourceIds());
+    }
+
+    @Test
+    void change_sources_does_not_load_project_or_sources() {
+        sourceLinker.changeSources(projectId, changes(Collections.singletonList(detachedSourceId), Collections.singletonList(attachedSourceId)));
+
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getCollectionLoadCount());
+    }
+
+    @Test
+    void change_sources_updates_last_modified() {
+        sourceLinker.changeSources(projectId, changes(Collections.singletonList(detachedSourceId), Collections.emptyList()));
+
+        Project project = entityManager.find(Project.class, projectId);
+        assertTrue(project.getLastModified().getTime() > 0);
+    }
+
+    @Test
+    void change_sources_throws_project_not_found_exception_when_project_does_not_exist() {
+        ProjectSourceChanges changes = changes(Collections.singletonList(detachedSourceId), Collections.emptyList());
+
+        assertThrows(ProjectNotFoundException.class, () -> sourceLinker.changeSources(-1, changes));
+    }
+
+    @Test
+    void change_sources_with_no_changes_does_not_write() {
+        sourceLinker.changeSources(projectId, changes(Collections.emptyList(), Collections.emptyList()));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(Collections.singleton(attachedSourceId), findSourceIds());
+    }
+
+    @Test
+    void change_sources_with_no_changes_throws_project_not_found_exception_when_project_does_not_exist() {
+        ProjectSourceChanges changes = changes(Collections.emptyList(), Collections.emptyList());
+
+        assertThrows(ProjectNotFoundException.class, () -> sourceLinker.changeSources(-1, changes));
+    }
+
+    // helper functions
+
+    private Set<Long> findSourceIds() {
+        entityManager.clear();
+        return entityManager.find(Project.class, projectId).getSources().stream()
+                .map(Source::getId)
+                .collect(Collectors.toSet());
+    }
+
+    private ProjectSourceChanges changes(List<Long> add, List<Long> remove) {
+        ProjectSourceChanges changes = new ProjectSourceChanges();
+        changes.setAdd(add);
+        changes.setRemove(remove);
+        return changes;
+    }
+
+    private Source createSource(String name, String url) {
+        Source source = new Source();
+        source.setName(name);
+        source.setUrl(url);
+        return source;
+    }
+}
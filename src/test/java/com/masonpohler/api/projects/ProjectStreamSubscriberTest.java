@@ -0,0 +1,149 @@
+package com.masonpohler.api.projects;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectStreamSubscriberTest {
+    private static final int CAPACITY = 2;
+
+    private RecordingEmitter emitter;
+    private Queue<Runnable> pendingTasks;
+    private ProjectStreamSubscriber subscriber;
+
+    @BeforeEach
+    void set_up() {
+        emitter = new RecordingEmitter();
+        pendingTasks = new LinkedList<>();
+        subscriber = new ProjectStreamSubscriber(emitter, CAPACITY, pendingTasks::add);
+    }
+
+    // offer
+
+    @Test
+    void offer_sends_event_to_emitter() {
+        subscriber.offer(createEvent(1));
+        runPendingTasks();
+
+        assertEquals(1, emitter.frames.size());
+        assertEquals("id:1\nevent:project\ndata:{\"type\":\"UPDATED\",\"id\":1}\n\n", emitter.frames.get(0));
+    }
+
+    @Test
+    void offer_sends_heartbeat_as_comment() {
+        subscriber.offer(ProjectStreamEvent.HEARTBEAT);
+        runPendingTasks();
+
+        assertEquals(1, emitter.frames.size());
+        assertTrue(emitter.frames.get(0).startsWith(":"));
+    }
+
+    @Test
+    void offer_schedules_one_drain_for_events_offered_before_it_runs() {
+        subscriber.offer(createEvent(1));
+        subscriber.offer(createEvent(2));
+
+        assertEquals(1, pendingTasks.size());
+        runPendingTasks();
+        assertEquals(2, emitter.frames.size());
+    }
+
+    @Test
+    void offer_drops_oldest_events_when_buffer_is_full_and_reports_dropped_count() {
+        for (int i = 1; i <= CAPACITY + 2; i++) {
+            subscriber.offer(createEvent(i));
+        }
+        runPendingTasks();
+
+        assertEquals(3, emitter.frames.size());
+        assertEquals("event:dropped\ndata:2\n\n", emitter.frames.get(0));
+        assertTrue(emitter.frames.get(1).startsWith("id:3\n"));
+        assertTrue(emitter.frames.get(2).startsWith("id:4\n"));
+    }
+
+    @Test
+    void offer_does_nothing_after_subscriber_is_closed() {
+        subscriber.close();
+
+        subscriber.offer(createEvent(1));
+
+        assertTrue(pendingTasks.isEmpty());
+    }
+
+    // drain
+
+    @Test
+    void drain_closes_subscriber_when_send_fails() {
+        emitter.failing = true;
+        subscriber.offer(createEvent(1));
+        subscriber.offer(createEvent(2));
+        runPendingTasks();
+
+        assertEquals(1, emitter.attempts);
+        subscriber.offer(createEvent(3));
+        assertTrue(pendingTasks.isEmpty());
+    }
+
+    // isSendOverdue
+
+    @Test
+    void is_send_overdue_only_while_a_send_is_in_progress() {
+        assertFalse(subscriber.isSendOverdue(System.nanoTime(), 0));
+
+        emitter.onSend = () -> {
+            assertTrue(subscriber.isSending());
+            assertTrue(subscriber.isSendOverdue(System.nanoTime() + 1, 0));
+            assertFalse(subscriber.isSendOverdue(System.nanoTime(), TimeUnit.MINUTES.toNanos(1)));
+        };
+        subscriber.offer(createEvent(1));
+        runPendingTasks();
+
+        assertEquals(1, emitter.frames.size());
+        assertFalse(subscriber.isSending());
+    }
+
+    // helper functions
+
+    private void runPendingTasks() {
+        while (!pendingTasks.isEmpty()) {
+            pendingTasks.poll().run();
+        }
+    }
+
+    private ProjectStreamEvent createEvent(long id) {
+        return new ProjectStreamEvent(id, ProjectEventStream.PROJECT_EVENT_NAME, "{\"type\":\"UPDATED\",\"id\":" + id + "}");
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> frames = new ArrayList<>();
+        private boolean failing;
+        private int attempts;
+        private Runnable onSend = () -> { };
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            attempts++;
+            onSend.run();
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+
+            StringBuilder frame = new StringBuilder();
+            for (DataWithMediaType part : builder.build()) {
+                frame.append(part.getData());
+            }
+            frames.add(frame.toString());
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.masonpohler.api.projects;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+
+class ProjectTombstonePurgerTest {
+    private static final int TOMBSTONE_RETENTION_IN_DAYS = 30;
+
+    @Mock
+    private ProjectTombstoneRepository mockedTombstoneRepository;
+
+    @InjectMocks
+    private ProjectTombstonePurger purger;
+
+    @BeforeEach
+    void set_up() {
+        MockitoAnnotations.initMocks(this);
+        ReflectionTestUtils.setField(purger, "tombstoneRetentionInDays", TOMBSTONE_RETENTION_IN_DAYS);
+    }
+
+    // purge
+
+    @Test
+    void purge_deletes_tombstones_older_than_retention_period() {
+        long before = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(TOMBSTONE_RETENTION_IN_DAYS);
+
+        purger.purge();
+
+        long after = System.currentTimeMillis() - TimeUnit.DAYS.toMillis(TOMBSTONE_RETENTION_IN_DAYS);
+        ArgumentCaptor<Date> cutoff = ArgumentCaptor.forClass(Date.class);
+        verify(mockedTombstoneRepository).deleteDeletedBefore(cutoff.capture());
+        assertTrue(cutoff.getValue().getTime() >= before && cutoff.getValue().getTime() <= after);
+    }
+}
@@ -0,0 +1,40 @@
+package com.masonpohler.api.projects;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class ProjectTombstoneRepositoryTest {
+
+    @Autowired
+    private ProjectTombstoneRepository repository;
+
+    @BeforeEach
+    void set_up() {
+        repository.saveAll(Arrays.asList(
+                new ProjectTombstone(1, new Date(1000)),
+                new ProjectTombstone(2, new Date(2000)),
+                new ProjectTombstone(3, new Date(3000))
+        ));
+        repository.flush();
+    }
+
+    @Test
+    void find_project_ids_deleted_since_returns_ids_deleted_at_or_after_since() {
+        assertEquals(Arrays.asList(2L, 3L), repository.findProjectIdsDeletedSince(new Date(2000)));
+    }
+
+    @Test
+    void delete_deleted_before_removes_only_older_tombstones() {
+        assertEquals(2, repository.deleteDeletedBefore(new Date(3000)));
+        assertEquals(Collections.singletonList(3L), repository.findProjectIdsDeletedSince(new Date(0)));
+    }
+}
@@ -0,0 +1,164 @@
+package com.masonpohler.api.projects;
+
+import com.masonpohler.api.source.Source;
+import com.masonpohler.api.source.SourceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SourceResolverTest {
+    private static final String URL = "https://github.com/mpohler1";
+
+    @Mock
+    private SourceRepository mockedRepository;
+
+    @InjectMocks
+    private SourceResolver sourceResolver;
+
+    @BeforeEach
+    void set_up() {
+        MockitoAnnotations.initMocks(this);
+        when(mockedRepository.findByUrl(anyString())).thenReturn(Optional.empty());
+        when(mockedRepository.findByUrlIn(anyCollection())).thenReturn(Collections.emptyList());
+    }
+
+    // getOrCreate
+
+    @Test
+    void get_or_create_returns_existing_source_with_same_url() {
+        Source existingSource = createSource(42, URL);
+        when(mockedRepository.findByUrl(URL)).thenReturn(Optional.of(existingSource));
+
+        Source source = sourceResolver.getOrCreate(createSource(0, URL));
+
+        assertSame(existingSource, source);
+        verify(mockedRepository, never()).save(any());
+    }
+
+    @Test
+    void get_or_create_saves_source_when_url_is_new() {
+        Source newSource = createSource(0, URL);
+        Source savedSource = createSource(42, URL);
+        when(mockedRepository.save(newSource)).thenReturn(savedSource);
+
+        assertSame(savedSource, sourceResolver.getOrCreate(newSource));
+    }
+
+    @Test
+    void get_or_create_returns_concurrently_created_source_when_save_violates_unique_url() {
+        Source concurrentSource = createSource(42, URL);
+        when(mockedRepository.save(any())).thenThrow(new DataIntegrityViolationException(Source.URL_INDEX));
+        when(mockedRepository.findByUrl(URL))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(concurrentSource));
+
+        assertSame(concurrentSource, sourceResolver.getOrCreate(createSource(0, URL)));
+    }
+
+    @Test
+    void get_or_create_rethrows_when_save_fails_and_no_source_has_url() {
+        when(mockedRepository.save(any())).thenThrow(new DataIntegrityViolationException("name too long"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> sourceResolver.getOrCreate(createSource(0, URL)));
+    }
+
+    @Test
+    void get_or_create_returns_source_with_id_unchanged() {
+        Source source = createSource(7, URL);
+
+        assertSame(source, sourceResolver.getOrCreate(source));
+        verify(mockedRepository, never()).findByUrl(anyString());
+    }
+
+    // resolveSources
+
+    @Test
+    void resolve_sources_replaces_new_sources_with_existing_source_with_same_url() {
+        Source existingSource = createSource(42, URL);
+        when(mockedRepository.findByUrlIn(anyCollection())).thenReturn(Collections.singletonList(existingSource));
+        Project project = createProject(createSource(0, URL));
+
+        sourceResolver.resolveSources(Arrays.asList(project));
+
+        assertEquals(1, project.getSources().size());
+        assertSame(existingSource, project.getSources().iterator().next());
+    }
+
+    @Test
+    void resolve_sources_shares_one_new_source_between_projects_with_same_url() {
+        Project first = createProject(createSource(0, URL));
+        Project second = createProject(createSource(0, URL));
+
+        sourceResolver.resolveSources(Arrays.asList(first, second));
+
+        assertSame(first.getSources().iterator().next(), second.getSources().iterator().next());
+    }
+
+    @Test
+    void resolve_sources_looks_up_every_url_of_the_batch_in_one_query() {
+        String otherUrl = "https://hub.docker.com/u/mpohler1";
+        Project first = createProject(createSource(0, URL));
+        Project second = createProject(createSource(0, otherUrl));
+        second.getSources().add(createSource(0, URL));
+
+        sourceResolver.resolveSources(Arrays.asList(first, second));
+
+        verify(mockedRepository, times(1)).findByUrlIn(new HashSet<>(Arrays.asList(URL, otherUrl)));
+        verify(mockedRepository, never()).findByUrl(anyString());
+    }
+
+    @Test
+    void resolve_sources_matches_existing_source_whose_url_differs_only_in_case() {
+        Source existingSource = createSource(42, URL.toUpperCase());
+        when(mockedRepository.findByUrlIn(anyCollection())).thenReturn(Collections.singletonList(existingSource));
+        Project project = createProject(createSource(0, URL));
+
+        sourceResolver.resolveSources(Collections.singletonList(project));
+
+        assertSame(existingSource, project.getSources().iterator().next());
+    }
+
+    @Test
+    void resolve_sources_skips_query_when_no_source_needs_resolving() {
+        Project project = createProject(createSource(7, URL));
+
+        sourceResolver.resolveSources(Collections.singletonList(project));
+
+        verify(mockedRepository, never()).findByUrlIn(anyCollection());
+    }
+
+    // helper functions
+
+    private Project createProject(Source source) {
+        Project project = new Project();
+        project.getSources().add(source);
+        return project;
+    }
+
+    private Source createSource(long id, String url) {
+        Source source = new Source();
+        source.setId(id);
+        source.setName("GitHub");
+        source.setUrl(url);
+        return source;
+    }
+}
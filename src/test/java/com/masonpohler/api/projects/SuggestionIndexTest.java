@@ -0,0 +1,130 @@
+package com.masonpohler.api.projects;
+
+import com.masonpohler.api.source.Source;
+import com.masonpohler.api.source.SourceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SuggestionIndexTest {
+
+    @Mock
+    private ProjectRepository mockedProjectRepository;
+
+    @Mock
+    private SourceRepository mockedSourceRepository;
+
+    @InjectMocks
+    private SuggestionIndex suggestionIndex;
+
+    @BeforeEach
+    void set_up() {
+        MockitoAnnotations.initMocks(this);
+        List<ProjectSummary> projects = Arrays.asList(
+                createSummary(1, "Meatbol Interpreter"),
+                createSummary(2, "PC Wonder"),
+                createSummary(3, "Projects API"));
+        when(mockedProjectRepository.findAllProjectedByOrderByLastModifiedDesc()).thenReturn(projects);
+        when(mockedSourceRepository.findAll()).thenReturn(Arrays.asList(
+                createSource(10, "Product API"),
+                createSource(11, "Login API")));
+        suggestionIndex.rebuild();
+    }
+
+    // suggest
+
+    @Test
+    void suggest_returns_empty_list_before_index_is_built() {
+        SuggestionIndex emptyIndex = new SuggestionIndex();
+
+        assertTrue(emptyIndex.suggest("p", 10).isEmpty());
+    }
+
+    @Test
+    void suggest_returns_empty_list_for_blank_prefix() {
+        assertTrue(suggestionIndex.suggest("  ", 10).isEmpty());
+    }
+
+    @Test
+    void suggest_returns_projects_and_sources_matching_prefix_in_name_order() {
+        List<Suggestion> expectedSuggestions = Arrays.asList(
+                new Suggestion(Suggestion.Type.PROJECT, 2, "PC Wonder"),
+                new Suggestion(Suggestion.Type.SOURCE, 10, "Product API"),
+                new Suggestion(Suggestion.Type.PROJECT, 3, "Projects API"));
+
+        assertEquals(expectedSuggestions, suggestionIndex.suggest("p", 10));
+    }
+
+    @Test
+    void suggest_ignores_case() {
+        List<Suggestion> expectedSuggestions = Collections.singletonList(
+                new Suggestion(Suggestion.Type.PROJECT, 1, "Meatbol Interpreter"));
+
+        assertEquals(expectedSuggestions, suggestionIndex.suggest("MEAT", 10));
+    }
+
+    @Test
+    void suggest_matches_start_of_any_word() {
+        List<Suggestion> expectedSuggestions = Collections.singletonList(
+                new Suggestion(Suggestion.Type.PROJECT, 1, "Meatbol Interpreter"));
+
+        assertEquals(expectedSuggestions, suggestionIndex.suggest("inter", 10));
+    }
+
+    @Test
+    void suggest_returns_each_match_once_when_several_words_match() {
+        List<Suggestion> suggestions = suggestionIndex.suggest("api", 10);
+
+        assertEquals(3, suggestions.size());
+        assertEquals(3, suggestions.stream().distinct().count());
+    }
+
+    @Test
+    void suggest_returns_at_most_limit_matches() {
+        assertEquals(2, suggestionIndex.suggest("p", 2).size());
+    }
+
+    @Test
+    void suggest_returns_empty_list_when_nothing_matches() {
+        assertTrue(suggestionIndex.suggest("zzz", 10).isEmpty());
+    }
+
+    // rebuild
+
+    @Test
+    void rebuild_drops_deleted_projects() {
+        when(mockedProjectRepository.findAllProjectedByOrderByLastModifiedDesc()).thenReturn(new LinkedList<>());
+
+        suggestionIndex.rebuild();
+
+        assertTrue(suggestionIndex.suggest("meatbol", 10).isEmpty());
+    }
+
+    // helper functions
+
+    private ProjectSummary createSummary(long id, String name) {
+        ProjectSummary summary = mock(ProjectSummary.class);
+        when(summary.getId()).thenReturn(id);
+        when(summary.getName()).thenReturn(name);
+        return summary;
+    }
+
+    private Source createSource(long id, String name) {
+        Source source = new Source();
+        source.setId(id);
+        source.setName(name);
+        return source;
+    }
+}
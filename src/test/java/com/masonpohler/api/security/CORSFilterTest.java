@@ -0,0 +1,148 @@
+package com.masonpohler.api.security;
+
+import com.masonpohler.api.environment.ConfigurationService;
+import com.masonpohler.api.environment.ConfigurationSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+class CORSFilterTest {
+    private static final String APPLICATION_URL = "https://masonpohler.com";
+    private static final String SECOND_APPLICATION_URL = "https://admin.masonpohler.com";
+    private static final String OTHER_ORIGIN = "https://example.com";
+    private static final long MAX_AGE_IN_SECONDS = 86400L;
+
+    @Mock
+    private ConfigurationService mockedConfigurationService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private CORSFilter filter;
+
+    @BeforeEach
+    void set_up() {
+        MockitoAnnotations.initMocks(this);
+        ConfigurationSnapshot snapshot = new ConfigurationSnapshot(
+                null,
+                new HashSet<>(Arrays.asList(APPLICATION_URL, SECOND_APPLICATION_URL))
+        );
+        when(mockedConfigurationService.getSnapshot()).thenReturn(snapshot);
+        ReflectionTestUtils.setField(filter, "maxAgeInSeconds", MAX_AGE_IN_SECONDS);
+        filter.buildPreflightHeaders();
+    }
+
+    @Test
+    void filter_allows_request_from_application_url() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        filter.doFilter(createRequest("GET", APPLICATION_URL), response, filterChain);
+
+        assertEquals(APPLICATION_URL, response.getHeader("Access-Control-Allow-Origin"));
+        assertEquals("true", response.getHeader("Access-Control-Allow-Credentials"));
+        assertNotNull(filterChain.getRequest());
+    }
+
+    @Test
+    void filter_allows_request_from_each_configured_origin() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(createRequest("GET", SECOND_APPLICATION_URL), response, new MockFilterChain());
+
+        assertEquals(SECOND_APPLICATION_URL, response.getHeader("Access-Control-Allow-Origin"));
+    }
+
+    @Test
+    void filter_does_not_allow_request_from_other_origin() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        filter.doFilter(createRequest("GET", OTHER_ORIGIN), response, filterChain);
+
+        assertNull(response.getHeader("Access-Control-Allow-Origin"));
+        assertNotNull(filterChain.getRequest());
+    }
+
+    @Test
+    void filter_varies_response_by_origin() throws ServletException, IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(createRequest("GET", APPLICATION_URL), response, new MockFilterChain());
+
+        assertEquals("Origin", response.getHeader("Vary"));
+    }
+
+    @Test
+    void filter_answers_preflight_without_continuing_chain() throws ServletException, IOException {
+        MockHttpServletRequest request = createRequest("OPTIONS", APPLICATION_URL);
+        request.addHeader("Access-Control-Request-Method", "POST");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        filter.doFilter(request, response, filterChain);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(APPLICATION_URL, response.getHeader("Access-Control-Allow-Origin"));
+        assertEquals("GET,POST,DELETE,PUT,OPTIONS", response.getHeader("Access-Control-Allow-Methods"));
+        assertEquals(Long.toString(MAX_AGE_IN_SECONDS), response.getHeader("Access-Control-Max-Age"));
+        assertNull(filterChain.getRequest());
+    }
+
+    @Test
+    void filter_rejects_preflight_from_other_origin() throws ServletException, IOException {
+        MockHttpServletRequest request = createRequest("OPTIONS", OTHER_ORIGIN);
+        request.addHeader("Access-Control-Request-Method", "POST");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain filterChain = new MockFilterChain();
+
+        filter.doFilter(request, response, filterChain);
+
+        assertEquals(403, response.getStatus());
+        assertNull(response.getHeader("Access-Control-Allow-Methods"));
+        assertNull(filterChain.getRequest());
+    }
+
+    @Test
+    void filter_records_time_of_rejected_preflight() throws ServletException, IOException {
+        MockHttpServletRequest request = createRequest("OPTIONS", OTHER_ORIGIN);
+        request.addHeader("Access-Control-Request-Method", "POST");
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertEquals(1, meterRegistry.timer(SecurityMetrics.FILTER_TIMER, "filter", "cors", "outcome", "rejected").count());
+    }
+
+    @Test
+    void filter_continues_chain_for_options_request_that_is_not_preflight() throws ServletException, IOException {
+        MockFilterChain filterChain = new MockFilterChain();
+
+        filter.doFilter(createRequest("OPTIONS", APPLICATION_URL), new MockHttpServletResponse(), filterChain);
+
+        assertNotNull(filterChain.getRequest());
+    }
+
+    private MockHttpServletRequest createRequest(String method, String origin) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/projects");
+        request.addHeader("Origin", origin);
+        return request;
+    }
+}
@@ -1,33 +1,47 @@
 package com.masonpohler.api.security;
 
-import com.masonpohler.api.environment.EnvironmentService;
+import com.masonpohler.api.environment.ConfigurationService;
+import com.masonpohler.api.environment.ConfigurationSnapshot;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.yaml.snakeyaml.error.MissingEnvironmentVariableException;
+import org.mockito.Spy;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Collections;
 import java.util.Date;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class JWTServiceTest {
-    private static final String API_SECRET_ENVIRONMENT_VARIABLE_NAME = "API_SECRET";
     private static final String API_SECRET = "secret";
+    private static final String APPLICATION_URL = "https://masonpohler.com";
     private static final String ID = "adminJWT";
     private static final String ADMIN_USERNAME = "root";
     private static final String ADMIN_AUTHORITY = Authorities.ADMIN.toString();
     private static final String AUTHORITY_CLAIM = "authority";
     private static final long EXPIRATION_TIME_IN_MILLISECONDS = 1000000L;
+    private static final long TOKEN_CACHE_MAXIMUM_SIZE = 100L;
     private static final SignatureAlgorithm CORRECT_SIGNATURE_ALGORITHM = SignatureAlgorithm.HS256;
     private static final SignatureAlgorithm INCORRECT_SIGNATURE_ALGORITHM = SignatureAlgorithm.HS512;
 
     @Mock
-    private EnvironmentService mockedEnvironmentService;
+    private ConfigurationService mockedConfigurationService;
+
+    @Spy
+    private ValidatedTokenCache validatedTokenCache = new ValidatedTokenCache(TOKEN_CACHE_MAXIMUM_SIZE);
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
 
     @InjectMocks
     private JWTService jwtService;
@@ -35,26 +49,15 @@ class JWTServiceTest {
     @BeforeEach
     void set_up() {
         MockitoAnnotations.initMocks(this);
-        when(mockedEnvironmentService.getEnv(API_SECRET_ENVIRONMENT_VARIABLE_NAME)).thenReturn(API_SECRET);
-    }
-
-    @Test
-    void create_token_throws_missing_environment_variable_exception_when_api_secret_is_not_set() {
-        when(mockedEnvironmentService.getEnv(API_SECRET_ENVIRONMENT_VARIABLE_NAME))
-                .thenThrow(MissingEnvironmentVariableException.class);
-        assertThrows(
-                MissingEnvironmentVariableException.class,
-                () -> jwtService.createToken(
-                        "",
-                        "",
-                        new Date(System.currentTimeMillis()),
-                        new Date(System.currentTimeMillis() + EXPIRATION_TIME_IN_MILLISECONDS)
-                )
+        ConfigurationSnapshot snapshot = new ConfigurationSnapshot(
+                new SecretKeySpec(API_SECRET.getBytes(), "HmacSHA256"),
+                Collections.singleton(APPLICATION_URL)
         );
+        when(mockedConfigurationService.getSnapshot()).thenReturn(snapshot);
     }
 
     @Test
-    void create_token_does_not_throw_exception_when_environment_service_does_not_throw_exception() {
+    void create_token_does_not_throw_exception_when_configuration_is_loaded() {
         assertDoesNotThrow(() -> jwtService.createToken(
                 "",
                 "",
@@ -164,6 +167,60 @@ class JWTServiceTest {
         assertEquals(expectedAuthenticatedUser, actualAuthenticatedUser);
     }
 
+    @Test
+    void validate_token_does_not_verify_cached_token_again() {
+        String validToken = createValidToken(
+                new Date(System.currentTimeMillis()),
+                new Date(System.currentTimeMillis() + EXPIRATION_TIME_IN_MILLISECONDS)
+        );
+
+        AuthenticatedUser firstAuthenticatedUser = jwtService.validateToken(validToken);
+        AuthenticatedUser secondAuthenticatedUser = jwtService.validateToken(validToken);
+
+        assertEquals(firstAuthenticatedUser, secondAuthenticatedUser);
+        verify(mockedConfigurationService, times(1)).getSnapshot();
+    }
+
+    @Test
+    void validate_token_records_validation_time_by_result() {
+        String validToken = createValidToken(
+                new Date(System.currentTimeMillis()),
+                new Date(System.currentTimeMillis() + EXPIRATION_TIME_IN_MILLISECONDS)
+        );
+
+        jwtService.validateToken(validToken);
+        jwtService.validateToken(validToken);
+        assertThrows(MalformedTokenException.class, () -> jwtService.validateToken("malformedToken"));
+
+        assertEquals(1, meterRegistry.timer(SecurityMetrics.TOKEN_VALIDATION_TIMER, "result", "valid").count());
+        assertEquals(1, meterRegistry.timer(SecurityMetrics.TOKEN_VALIDATION_TIMER, "result", "cached").count());
+        assertEquals(1, meterRegistry.timer(SecurityMetrics.TOKEN_VALIDATION_TIMER, "result", "malformed").count());
+    }
+
+    @Test
+    void validate_token_does_not_cache_token_without_expiration() {
+        String token = Jwts.builder()
+                .setSubject(ADMIN_USERNAME)
+                .signWith(CORRECT_SIGNATURE_ALGORITHM, API_SECRET.getBytes())
+                .compact();
+
+        jwtService.validateToken(token);
+        jwtService.validateToken(token);
+
+        verify(mockedConfigurationService, times(2)).getSnapshot();
+    }
+
+    @Test
+    void validate_token_does_not_cache_rejected_token() {
+        String token = Jwts.builder()
+                .setExpiration(new Date(System.currentTimeMillis() + EXPIRATION_TIME_IN_MILLISECONDS))
+                .signWith(CORRECT_SIGNATURE_ALGORITHM, (API_SECRET + "badSig").getBytes())
+                .compact();
+
+        assertThrows(TokenSignatureException.class, () -> jwtService.validateToken(token));
+        assertThrows(TokenSignatureException.class, () -> jwtService.validateToken(token));
+    }
+
     private String createValidToken(Date issuedAt, Date expiration) {
         return Jwts.builder()
                 .setId(ID)
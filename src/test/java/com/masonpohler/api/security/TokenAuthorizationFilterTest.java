@@ -0,0 +1,129 @@
+package com.masonpohler.api.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.servlet.ServletException;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TokenAuthorizationFilterTest {
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String TOKEN = "header.payload.signature";
+    private static final String ADMIN_USERNAME = "root";
+
+    @Mock
+    private TokenService mockedTokenService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private TokenAuthorizationFilter filter;
+
+    @BeforeEach
+    void set_up() {
+        MockitoAnnotations.initMocks(this);
+
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+        authenticatedUser.setUsername(ADMIN_USERNAME);
+        authenticatedUser.setAuthority(Authorities.ADMIN.toString());
+        when(mockedTokenService.validateToken(TOKEN)).thenReturn(authenticatedUser);
+    }
+
+    @AfterEach
+    void tear_down() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void filter_does_not_validate_token_on_get_request() throws ServletException, IOException {
+        doFilter("GET", "/projects");
+
+        verify(mockedTokenService, never()).validateToken(anyString());
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void filter_does_not_validate_token_on_options_request() throws ServletException, IOException {
+        doFilter("OPTIONS", "/projects/create");
+
+        verify(mockedTokenService, never()).validateToken(anyString());
+    }
+
+    @Test
+    void filter_does_not_validate_token_on_login_request() throws ServletException, IOException {
+        doFilter("POST", "/login");
+
+        verify(mockedTokenService, never()).validateToken(anyString());
+    }
+
+    @Test
+    void filter_validates_token_on_protected_request() throws ServletException, IOException {
+        doFilter("POST", "/projects/create");
+
+        verify(mockedTokenService).validateToken(TOKEN);
+        assertEquals(ADMIN_USERNAME, SecurityContextHolder.getContext().getAuthentication().getName());
+    }
+
+    @Test
+    void filter_validates_token_on_get_request_when_validating_public_routes() throws ServletException, IOException {
+        ReflectionTestUtils.setField(filter, "validatePublicRoutes", true);
+
+        doFilter("GET", "/projects");
+
+        verify(mockedTokenService).validateToken(TOKEN);
+    }
+
+    @Test
+    void filter_returns_forbidden_when_token_on_protected_request_is_invalid() throws ServletException, IOException {
+        when(mockedTokenService.validateToken(TOKEN)).thenThrow(new MalformedTokenException());
+
+        MockHttpServletResponse response = doFilter("DELETE", "/project/1/delete");
+
+        assertEquals(403, response.getStatus());
+    }
+
+    @Test
+    void filter_records_time_of_rejected_token() throws ServletException, IOException {
+        when(mockedTokenService.validateToken(TOKEN)).thenThrow(new MalformedTokenException());
+
+        doFilter("DELETE", "/project/1/delete");
+
+        assertEquals(1, meterRegistry.timer(SecurityMetrics.FILTER_TIMER, "filter", "token-authorization", "outcome", "rejected").count());
+    }
+
+    @Test
+    void filter_continues_chain_on_get_request_with_invalid_token() throws ServletException, IOException {
+        when(mockedTokenService.validateToken(TOKEN)).thenThrow(new MalformedTokenException());
+
+        MockHttpServletResponse response = doFilter("GET", "/projects");
+
+        assertEquals(200, response.getStatus());
+    }
+
+    private MockHttpServletResponse doFilter(String method, String path) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        request.addHeader(AUTHORIZATION_HEADER, TOKEN);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
@@ -0,0 +1,101 @@
+package com.masonpohler.api.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ValidatedTokenCacheTest {
+    private static final long MAXIMUM_SIZE = 100L;
+    private static final long EXPIRATION_TIME_IN_MILLISECONDS = 1000000L;
+    private static final long SHORT_EXPIRATION_TIME_IN_MILLISECONDS = 50L;
+    private static final String TOKEN = "header.payload.signature";
+
+    private ValidatedTokenCache validatedTokenCache;
+
+    @BeforeEach
+    void set_up() {
+        validatedTokenCache = new ValidatedTokenCache(MAXIMUM_SIZE);
+    }
+
+    // get
+
+    @Test
+    void get_returns_null_when_token_was_never_put() {
+        assertNull(validatedTokenCache.get(TOKEN));
+    }
+
+    @Test
+    void get_returns_authenticated_user_of_put_token() {
+        AuthenticatedUser authenticatedUser = createAuthenticatedUser();
+        validatedTokenCache.put(TOKEN, authenticatedUser, new Date(System.currentTimeMillis() + EXPIRATION_TIME_IN_MILLISECONDS));
+
+        assertEquals(authenticatedUser, validatedTokenCache.get(TOKEN));
+    }
+
+    @Test
+    void get_returns_null_for_different_token() {
+        validatedTokenCache.put(TOKEN, createAuthenticatedUser(), new Date(System.currentTimeMillis() + EXPIRATION_TIME_IN_MILLISECONDS));
+
+        assertNull(validatedTokenCache.get(TOKEN + "x"));
+    }
+
+    @Test
+    void get_returns_null_once_token_has_expired() throws InterruptedException {
+        validatedTokenCache.put(TOKEN, createAuthenticatedUser(), new Date(System.currentTimeMillis() + SHORT_EXPIRATION_TIME_IN_MILLISECONDS));
+
+        Thread.sleep(SHORT_EXPIRATION_TIME_IN_MILLISECONDS * 2);
+
+        assertNull(validatedTokenCache.get(TOKEN));
+    }
+
+    // put
+
+    @Test
+    void put_ignores_token_without_expiration() {
+        validatedTokenCache.put(TOKEN, createAuthenticatedUser(), null);
+
+        assertNull(validatedTokenCache.get(TOKEN));
+    }
+
+    @Test
+    void put_ignores_token_that_has_already_expired() {
+        validatedTokenCache.put(TOKEN, createAuthenticatedUser(), new Date(System.currentTimeMillis() - EXPIRATION_TIME_IN_MILLISECONDS));
+
+        assertNull(validatedTokenCache.get(TOKEN));
+    }
+
+    // clear
+
+    @Test
+    void clear_removes_all_tokens() {
+        validatedTokenCache.put(TOKEN, createAuthenticatedUser(), new Date(System.currentTimeMillis() + EXPIRATION_TIME_IN_MILLISECONDS));
+
+        validatedTokenCache.clear();
+
+        assertNull(validatedTokenCache.get(TOKEN));
+    }
+
+    // getNativeCache
+
+    @Test
+    void get_native_cache_records_hits_and_misses() {
+        validatedTokenCache.put(TOKEN, createAuthenticatedUser(), new Date(System.currentTimeMillis() + EXPIRATION_TIME_IN_MILLISECONDS));
+
+        validatedTokenCache.get(TOKEN);
+        validatedTokenCache.get(TOKEN + "x");
+
+        assertEquals(1, validatedTokenCache.getNativeCache().stats().hitCount());
+        assertEquals(1, validatedTokenCache.getNativeCache().stats().missCount());
+    }
+
+    private AuthenticatedUser createAuthenticatedUser() {
+        AuthenticatedUser authenticatedUser = new AuthenticatedUser();
+        authenticatedUser.setUsername("root");
+        authenticatedUser.setAuthority(Authorities.ADMIN.toString());
+        return authenticatedUser;
+    }
+}
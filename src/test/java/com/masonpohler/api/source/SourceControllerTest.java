@@ -6,22 +6,38 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.mockito.stubbing.Answer;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.Date;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class SourceControllerTest {
 
     @Mock
     private SourceRepository mockedRepository;
 
+    @Mock
+    private ApplicationEventPublisher mockedEventPublisher;
+
     @InjectMocks
     private SourceController controller;
 
@@ -35,7 +51,7 @@ class SourceControllerTest {
     @Test
     void get_all_sources_returns_an_empty_list_when_no_sources_are_in_repository() {
         mockFindAll(new LinkedList<>());
-        List<Source> actualSourceList = controller.getAllSources();
+        List<Source> actualSourceList = controller.getAllSources().getBody();
         assert actualSourceList.size() == 0;
     }
 
@@ -44,10 +60,68 @@ class SourceControllerTest {
         List<Source> expectedSourceList = createDummySourceList();
         mockFindAll(expectedSourceList);
 
-        List<Source> actualSourceList = controller.getAllSources();
+        List<Source> actualSourceList = controller.getAllSources().getBody();
         assertEquals(expectedSourceList, actualSourceList);
     }
 
+    @Test
+    void get_all_sources_sets_etag_from_newest_source_and_last_modified_no_earlier_than_it() {
+        List<Source> dummySourceList = createDummySourceList();
+        dummySourceList.get(0).setLastModified(new Date(1000L));
+        dummySourceList.get(1).setLastModified(new Date(5000L));
+        mockFindAll(dummySourceList);
+
+        ResponseEntity<List<Source>> response = controller.getAllSources();
+
+        assertEquals("\"4-5000\"", response.getHeaders().getETag());
+        assertTrue(response.getHeaders().getLastModified() >= 5000L);
+    }
+
+    @Test
+    void get_all_sources_keeps_last_modified_while_sources_are_unchanged() {
+        mockFindAll(createDummySourceList());
+
+        long lastModifiedBefore = controller.getAllSources().getHeaders().getLastModified();
+        long lastModifiedAfter = controller.getAllSources().getHeaders().getLastModified();
+
+        assertEquals(lastModifiedBefore, lastModifiedAfter);
+    }
+
+    @Test
+    void get_all_sources_returns_not_modified_for_if_modified_since_while_sources_are_unchanged() throws Exception {
+        mockFindAll(createDummySourceList());
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        String lastModified = mockMvc.perform(get("/sources")).andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        mockMvc.perform(get("/sources").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void get_all_sources_returns_sources_for_if_modified_since_after_a_source_is_deleted() throws Exception {
+        List<Source> dummySourceList = createDummySourceList();
+        mockFindAll(dummySourceList);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        String lastModified = mockMvc.perform(get("/sources")).andReturn().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        dummySourceList.remove(0);
+
+        mockMvc.perform(get("/sources").header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void get_all_sources_changes_etag_when_a_source_is_removed() {
+        List<Source> dummySourceList = createDummySourceList();
+        mockFindAll(dummySourceList);
+        String etagBefore = controller.getAllSources().getHeaders().getETag();
+
+        dummySourceList.remove(0);
+        String etagAfter = controller.getAllSources().getHeaders().getETag();
+
+        assertNotEquals(etagBefore, etagAfter);
+    }
+
     // getSourceById
 
     @Test
@@ -94,6 +168,36 @@ class SourceControllerTest {
         assertEquals(expectedSourceList, actualSourceList);
     }
 
+    @Test
+    void create_source_publishes_created_event() {
+        mockSave(new LinkedList<>());
+        Source dummySource = createDummySource();
+
+        controller.createSource(dummySource);
+
+        verify(mockedEventPublisher).publishEvent(
+                new SourceChangedEvent(SourceChangedEvent.Type.CREATED, dummySource.getId()));
+    }
+
+    @Test
+    void create_source_throws_conflict_when_source_with_url_exists() {
+        Source dummySource = createDummySource();
+        when(mockedRepository.save(any(Source.class))).thenThrow(new DataIntegrityViolationException("ux_source_url"));
+        when(mockedRepository.findByUrl(dummySource.getUrl())).thenReturn(Optional.of(new Source()));
+
+        assertThrows(DuplicateSourceURLException.class, () -> controller.createSource(dummySource));
+        verify(mockedEventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void create_source_rethrows_integrity_violation_not_caused_by_url() {
+        Source dummySource = createDummySource();
+        when(mockedRepository.save(any(Source.class))).thenThrow(new DataIntegrityViolationException("name too long"));
+        when(mockedRepository.findByUrl(dummySource.getUrl())).thenReturn(Optional.empty());
+
+        assertThrows(DataIntegrityViolationException.class, () -> controller.createSource(dummySource));
+    }
+
     // deleteSource
 
     @Test
@@ -113,6 +217,19 @@ class SourceControllerTest {
         assertEquals(expectedSourceList, actualSourceList);
     }
 
+    @Test
+    void delete_source_publishes_deleted_event() {
+        List<Source> dummySourceList = createDummySourceList();
+        mockFindById(dummySourceList);
+        mockDelete(dummySourceList);
+
+        Source dummySource = dummySourceList.get(0);
+        controller.deleteSource(dummySource.getId());
+
+        verify(mockedEventPublisher).publishEvent(
+                new SourceChangedEvent(SourceChangedEvent.Type.DELETED, dummySource.getId()));
+    }
+
     // helper functions
 
     void mockFindAll(List<Source> sourceList) {